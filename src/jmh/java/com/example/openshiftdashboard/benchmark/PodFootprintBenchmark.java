@@ -0,0 +1,112 @@
+package com.example.openshiftdashboard.benchmark;
+
+import com.example.openshiftdashboard.dto.PodUIDetail;
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.service.PodRecordMapper;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetrics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retained heap per cached pod: {@link PodRecord} (what the cache holds) against {@link PodUIDetail} (the
+ * all-strings form the cache held before). Each invocation builds the rows for a synthetic fleet and reports the
+ * growth of used heap after a full GC, divided by the pod count, as the {@code retainedBytesPerPod} counter; the
+ * time score is just the build time. The fabric8 pods are generated namespace by namespace and dropped once mapped,
+ * as in a refresh, so only what the rows keep alive is counted, including the {@code StringPool} entries they
+ * create. PodUIDetail rows are made with {@link PodRecord#toUIDetail()}, so they share the pooled strings too and
+ * their figure is a lower bound. A warmup iteration runs first so one-off allocations (classes, static tables) are
+ * not counted.
+ *
+ * <pre>
+ *   mvn -Pbenchmarks compile exec:exec -Djmh.args="PodFootprintBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1) // JMH sums EVENTS counters over iterations, so more would multiply the figure
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseSerialGC", "-Xms2g", "-Xmx2g"}) // One stop-the-world full GC per System.gc()
+public class PodFootprintBenchmark {
+
+    private static final int NAMESPACES = 40;
+
+    @Param({"100000"})
+    public int podCount;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private PodRecordMapper mapper;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerPod;
+    }
+
+    @Setup
+    public void setUp() {
+        SyntheticCluster.quietLogging();
+        mapper = new PodRecordMapper();
+    }
+
+    @Benchmark
+    public int podRecord(Footprint footprint) {
+        long before = usedAfterGc();
+        List<PodRecord> rows = records();
+        long after = usedAfterGc();
+        Reference.reachabilityFence(rows);
+        footprint.retainedBytesPerPod = (after - before) / rows.size();
+        return rows.size(); // Not the rows, which would stay reachable into the next iteration's baseline
+    }
+
+    @Benchmark
+    public int podUIDetail(Footprint footprint) {
+        long before = usedAfterGc();
+        List<PodUIDetail> rows = new ArrayList<>(podCount);
+        for (PodRecord record : records()) {
+            rows.add(record.toUIDetail());
+        }
+        long after = usedAfterGc(); // The intermediate records are garbage by now
+        Reference.reachabilityFence(rows);
+        footprint.retainedBytesPerPod = (after - before) / rows.size();
+        return rows.size();
+    }
+
+    private List<PodRecord> records() {
+        List<PodRecord> rows = new ArrayList<>(podCount);
+        for (int n = 0; n < NAMESPACES; n++) {
+            List<Pod> pods = SyntheticCluster.pods("ns-" + n, podCount / NAMESPACES, n);
+            Map<String, PodMetrics> podMetricsByName = SyntheticCluster.podMetricsByName(SyntheticCluster.podMetrics(pods, n));
+            for (Pod pod : pods) {
+                rows.add(mapper.map(pod, podMetricsByName, "DC-Bench", "ns-" + n));
+            }
+        }
+        return rows;
+    }
+
+    private long usedAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc(); // Repeated so weakly reachable pool entries and finalizable objects are gone too
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
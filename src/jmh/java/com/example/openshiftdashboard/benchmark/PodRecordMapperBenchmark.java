@@ -0,0 +1,65 @@
+package com.example.openshiftdashboard.benchmark;
+
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.service.PodRecordMapper;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a namespace's pods to cache records: owner-name regexes, image-tag matching,
+ * timestamp parsing and quantity parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodRecordMapperBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int podCount;
+
+    private PodRecordMapper mapper;
+    private List<Pod> pods;
+    private Map<String, PodMetrics> podMetricsByName;
+
+    @Setup
+    public void setUp() {
+        SyntheticCluster.quietLogging();
+        mapper = new PodRecordMapper();
+        pods = SyntheticCluster.pods("bench-ns", podCount, 42);
+        podMetricsByName = SyntheticCluster.podMetricsByName(SyntheticCluster.podMetrics(pods, 7));
+    }
+
+    @Benchmark
+    public void mapNamespace(Blackhole blackhole) {
+        for (Pod pod : pods) {
+            blackhole.consume(mapper.map(pod, podMetricsByName, "DC-Bench", "bench-ns"));
+        }
+    }
+
+    @Benchmark
+    public void mapAndFormatForApi(Blackhole blackhole) {
+        for (Pod pod : pods) {
+            PodRecord record = mapper.map(pod, podMetricsByName, "DC-Bench", "bench-ns");
+            blackhole.consume(record.toUIDetail());
+        }
+    }
+}
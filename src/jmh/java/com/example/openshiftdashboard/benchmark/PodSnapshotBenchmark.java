@@ -0,0 +1,128 @@
+package com.example.openshiftdashboard.benchmark;
+
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.service.PodFilter;
+import com.example.openshiftdashboard.service.PodRecordMapper;
+import com.example.openshiftdashboard.service.PodSearchQuery;
+import com.example.openshiftdashboard.service.PodSnapshot;
+import io.fabric8.kubernetes.api.model.Pod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read path behind the dashboard and /api/pods: publishing a snapshot (indexes and facets), building its search
+ * index, then filtering, searching, sorting and formatting one page per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodSnapshotBenchmark {
+
+    private static final int NAMESPACES = 40;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000", "10000", "100000"})
+    public int podCount;
+
+    private static final PodSearchQuery MULTI_FIELD_QUERY = PodSearchQuery.parse("image:app-1 node:worker-3");
+    private static final PodSearchQuery POD_NAME_QUERY = PodSearchQuery.parse("name:a1f");
+
+    private List<PodRecord> records;
+    private PodSnapshot snapshot;
+    private PodSnapshot unindexedSnapshot;
+
+    @Setup
+    public void setUp() {
+        SyntheticCluster.quietLogging();
+        PodRecordMapper mapper = new PodRecordMapper();
+        records = new ArrayList<>(podCount);
+        for (int n = 0; n < NAMESPACES; n++) {
+            String namespace = "ns-" + n;
+            for (Pod pod : SyntheticCluster.pods(namespace, podCount / NAMESPACES, n)) {
+                records.add(mapper.map(pod, null, n % 2 == 0 ? "DC-East" : "DC-West", namespace));
+            }
+        }
+        snapshot = new PodSnapshot(1, Instant.now(), records);
+        snapshot.buildSearchIndex();
+        unindexedSnapshot = new PodSnapshot(1, Instant.now(), records);
+    }
+
+    @Benchmark
+    public PodSnapshot publishSnapshot() {
+        return new PodSnapshot(2, Instant.now(), records);
+    }
+
+    @Benchmark
+    public void pageLoadFacets(Blackhole blackhole) {
+        blackhole.consume(snapshot.getDataCenters());
+        blackhole.consume(snapshot.getNamespaces());
+        blackhole.consume(snapshot.getPodStatuses());
+    }
+
+    @Benchmark
+    public List<PodRecord> filterNamespaceAndStatus() {
+        return snapshot.filter(null, "ns-7", null, "running");
+    }
+
+    @Benchmark
+    public List<PodRecord> filterAppNameContains() {
+        return snapshot.filter(null, null, "app-1", null);
+    }
+
+    @Benchmark
+    public List<PodRecord> filterAppNameContainsScan() {
+        return unindexedSnapshot.filter(null, null, "app-1", null);
+    }
+
+    // Snapshot construction plus the index; subtract publishSnapshot for the index alone
+    @Benchmark
+    public PodSnapshot publishAndBuildSearchIndex() {
+        PodSnapshot published = new PodSnapshot(2, Instant.now(), records);
+        published.buildSearchIndex();
+        return published;
+    }
+
+    // Repeats of one query hit the index's per-term bitmaps, as paging through search results does
+    @Benchmark
+    public List<PodRecord> searchMultiField() {
+        return snapshot.filter(new PodFilter(null, null, null, null, MULTI_FIELD_QUERY));
+    }
+
+    @Benchmark
+    public List<PodRecord> searchMultiFieldScan() {
+        return unindexedSnapshot.filter(new PodFilter(null, null, null, null, MULTI_FIELD_QUERY));
+    }
+
+    @Benchmark
+    public List<PodRecord> searchPodName() {
+        return snapshot.filter(new PodFilter(null, null, null, null, POD_NAME_QUERY));
+    }
+
+    @Benchmark
+    public void sortedFirstPage(Blackhole blackhole) {
+        List<PodRecord> matching = new ArrayList<>(snapshot.filter("DC-East", null, null, null));
+        matching.sort(Comparator.comparing(PodRecord::getPodName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        for (PodRecord record : matching.subList(0, Math.min(PAGE_SIZE, matching.size()))) {
+            blackhole.consume(record.toUIDetail());
+        }
+    }
+}
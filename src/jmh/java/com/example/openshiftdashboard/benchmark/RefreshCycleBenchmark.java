@@ -0,0 +1,129 @@
+package com.example.openshiftdashboard.benchmark;
+
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.dto.RefreshResult;
+import com.example.openshiftdashboard.service.DashboardDataService;
+import com.example.openshiftdashboard.service.KubernetesClientRegistry;
+import com.example.openshiftdashboard.service.OpenShiftClientService;
+import com.example.openshiftdashboard.service.PodRecordMapper;
+import com.example.openshiftdashboard.service.RefreshCoordinator;
+import com.example.openshiftdashboard.service.RefreshMetrics;
+import com.example.openshiftdashboard.service.SnapshotStore;
+import com.example.openshiftdashboard.service.UsageHistoryStore;
+import io.fabric8.kubernetes.api.model.ListMetaBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodListBuilder;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetricsListBuilder;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end full refresh against a local fabric8 mock API server (no network access needed): two instances
+ * with many namespaces, every list and metrics call answered after {@code apiLatencyMs}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RefreshCycleBenchmark {
+
+    private static final int INSTANCES = 2;
+
+    @Param({"10", "50"})
+    public int namespacesPerInstance;
+
+    @Param({"200"})
+    public int podsPerNamespace;
+
+    @Param({"0", "50"})
+    public long apiLatencyMs;
+
+    private final List<KubernetesMockServer> servers = new ArrayList<>();
+    private KubernetesClientRegistry clientRegistry;
+    private OpenShiftClientService openShiftClientService;
+    private DashboardDataService dashboardDataService;
+    private RefreshCoordinator refreshCoordinator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCluster.quietLogging();
+        OpenShiftProperties properties = new OpenShiftProperties();
+        properties.setInstances(new ArrayList<>());
+        properties.setSnapshotFile(""); // Measure fetching and publishing, not disk writes
+        for (int i = 0; i < INSTANCES; i++) {
+            KubernetesMockServer server = new KubernetesMockServer(false);
+            server.init();
+            servers.add(server);
+
+            OpenShiftInstanceProperties instance = new OpenShiftInstanceProperties();
+            instance.setName("bench-" + i);
+            instance.setUrl(server.url("/"));
+            instance.setToken("bench-token");
+            instance.setDataCenter("DC-" + i);
+            instance.setNamespaces(new ArrayList<>());
+            for (int n = 0; n < namespacesPerInstance; n++) {
+                String namespace = "ns-" + n;
+                instance.getNamespaces().add(namespace);
+                expectNamespace(server, instance, namespace, i * 1000L + n);
+            }
+            properties.getInstances().add(instance);
+        }
+
+        RefreshMetrics refreshMetrics = new RefreshMetrics(new SimpleMeterRegistry());
+        clientRegistry = new KubernetesClientRegistry(properties);
+        openShiftClientService = new OpenShiftClientService(clientRegistry, new PodRecordMapper(), refreshMetrics);
+        dashboardDataService = new DashboardDataService(properties, openShiftClientService, new UsageHistoryStore(properties), refreshMetrics);
+        refreshCoordinator = new RefreshCoordinator(properties, dashboardDataService, refreshMetrics, new SnapshotStore(properties));
+    }
+
+    private void expectNamespace(KubernetesMockServer server, OpenShiftInstanceProperties instance, String namespace, long seed) {
+        List<Pod> pods = SyntheticCluster.pods(namespace, podsPerNamespace, seed);
+        server.expect().get().delay(apiLatencyMs)
+                .withPath("/api/v1/namespaces/" + namespace + "/pods?limit=" + instance.getListPageSize())
+                .andReturn(200, new PodListBuilder().withMetadata(new ListMetaBuilder().build()).withItems(pods).build())
+                .always();
+        server.expect().get().delay(apiLatencyMs)
+                .withPath("/apis/metrics.k8s.io/v1beta1/namespaces/" + namespace + "/pods")
+                .andReturn(200, new PodMetricsListBuilder().withItems(SyntheticCluster.podMetrics(pods, seed)).build())
+                .always();
+    }
+
+    @Benchmark
+    public RefreshResult fullRefresh() {
+        RefreshResult result = refreshCoordinator.refreshAll().getCompletion().join();
+        int expected = INSTANCES * namespacesPerInstance * podsPerNamespace;
+        if (result.getTotalPods() != expected) {
+            throw new IllegalStateException("Expected " + expected + " pods but refresh returned " + result.getTotalPods() + ": " + result.getInstances());
+        }
+        return result;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        refreshCoordinator.shutdown();
+        dashboardDataService.shutdown();
+        openShiftClientService.shutdown();
+        clientRegistry.closeAll();
+        servers.forEach(KubernetesMockServer::destroy);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.openshiftdashboard.benchmark;
+
+import ch.qos.logback.classic.Level;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.ContainerMetricsBuilder;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetrics;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetricsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic generators for pods and pod metrics that look like a real fleet: a mix of Helm and plain
+ * Deployments, apps named by label or only by owner ReplicaSet, tagged and digest-pinned images, and a
+ * handful of phases and nodes.
+ */
+final class SyntheticCluster {
+
+    private static final String[] PHASES = {"Running", "Running", "Running", "Running", "Pending", "Succeeded", "Failed"};
+    private static final String[] CPU_REQUESTS = {"100m", "250m", "500m", "1", "2"};
+    private static final String[] MEMORY_REQUESTS = {"128Mi", "256Mi", "512Mi", "1Gi", "2Gi"};
+
+    private SyntheticCluster() {
+    }
+
+    static List<Pod> pods(String namespace, int count, long seed) {
+        Random random = new Random(seed);
+        Instant now = Instant.parse("2024-05-01T00:00:00Z");
+        List<Pod> pods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String app = "app-" + random.nextInt(Math.max(1, count / 8));
+            String podName = app + "-" + Long.toHexString(random.nextLong()).substring(0, 9) + "-" + Integer.toString(i, 36);
+            boolean helm = random.nextInt(3) == 0;
+            boolean labelled = random.nextInt(4) != 0;
+            String image = random.nextInt(10) == 0
+                    ? "registry.example.com/team/" + app + "@sha256:" + sha(random)
+                    : "registry.example.com/team/" + app + ":1." + random.nextInt(20) + "." + random.nextInt(10);
+
+            Map<String, String> labels = new HashMap<>();
+            if (labelled) {
+                labels.put("app.kubernetes.io/name", app);
+            }
+            if (helm) {
+                labels.put("app.kubernetes.io/managed-by", "Helm");
+                labels.put("helm.sh/chart", app + "-0." + random.nextInt(5) + ".0");
+            }
+            int size = random.nextInt(CPU_REQUESTS.length);
+            pods.add(new PodBuilder()
+                    .withNewMetadata()
+                        .withName(podName)
+                        .withNamespace(namespace)
+                        .withUid(UUID.nameUUIDFromBytes((namespace + "/" + podName).getBytes()).toString())
+                        .withCreationTimestamp(now.minus(random.nextInt(90 * 24 * 60), ChronoUnit.MINUTES).toString())
+                        .withLabels(labels)
+                        .addNewOwnerReference()
+                            .withKind("ReplicaSet")
+                            .withName(app + "-" + Long.toHexString(random.nextLong()).substring(0, 10))
+                        .endOwnerReference()
+                    .endMetadata()
+                    .withNewSpec()
+                        .withNodeName("worker-" + random.nextInt(50))
+                        .withContainers(new ContainerBuilder()
+                                .withName(app)
+                                .withImage(image)
+                                .withNewResources()
+                                    .addToRequests("cpu", new Quantity(CPU_REQUESTS[size]))
+                                    .addToRequests("memory", new Quantity(MEMORY_REQUESTS[size]))
+                                    .addToLimits("cpu", new Quantity(CPU_REQUESTS[Math.min(size + 1, CPU_REQUESTS.length - 1)]))
+                                    .addToLimits("memory", new Quantity(MEMORY_REQUESTS[Math.min(size + 1, MEMORY_REQUESTS.length - 1)]))
+                                .endResources()
+                                .build())
+                    .endSpec()
+                    .withNewStatus()
+                        .withPhase(PHASES[random.nextInt(PHASES.length)])
+                        .withPodIP("10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256))
+                    .endStatus()
+                    .build());
+        }
+        return pods;
+    }
+
+    // Metrics for roughly 95% of the pods; the rest exercise the "not reported" path
+    static List<PodMetrics> podMetrics(List<Pod> pods, long seed) {
+        Random random = new Random(seed);
+        List<PodMetrics> metrics = new ArrayList<>(pods.size());
+        for (Pod pod : pods) {
+            if (random.nextInt(20) == 0) {
+                continue;
+            }
+            metrics.add(new PodMetricsBuilder()
+                    .withNewMetadata()
+                        .withName(pod.getMetadata().getName())
+                        .withNamespace(pod.getMetadata().getNamespace())
+                    .endMetadata()
+                    .withContainers(new ContainerMetricsBuilder()
+                            .withName(pod.getSpec().getContainers().get(0).getName())
+                            .addToUsage("cpu", new Quantity(random.nextInt(2_000_000) + "n"))
+                            .addToUsage("memory", new Quantity(random.nextInt(900_000) + "Ki"))
+                            .build())
+                    .build());
+        }
+        return metrics;
+    }
+
+    static Map<String, PodMetrics> podMetricsByName(List<PodMetrics> metrics) {
+        Map<String, PodMetrics> byName = new HashMap<>(metrics.size() * 2);
+        metrics.forEach(podMetrics -> byName.put(podMetrics.getMetadata().getName(), podMetrics));
+        return byName;
+    }
+
+    // Benchmarks run without Spring, so logback would otherwise log at DEBUG on every pod
+    static void quietLogging() {
+        Logger root = LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        if (root instanceof ch.qos.logback.classic.Logger logbackRoot) {
+            logbackRoot.setLevel(Level.WARN);
+        }
+    }
+
+    private static String sha(Random random) {
+        StringBuilder sha = new StringBuilder(64);
+        while (sha.length() < 64) {
+            sha.append(Long.toHexString(random.nextLong() & Long.MAX_VALUE));
+        }
+        return sha.substring(0, 64);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.openshiftdashboard.config;
+
+import lombok.Data;
+
+/**
+ * Per-namespace settings under an instance's {@code namespaceOverrides}. Unset intervals fall back to the instance's;
+ * selectors are ANDed with the instance's selectors.
+ */
+@Data
+public class NamespaceRefreshProperties {
+    private Long inventoryIntervalSeconds;
+    private Long metricsIntervalSeconds;
+    private String labelSelector;
+    private String fieldSelector;
+}
@@ -1,7 +1,10 @@
 package com.example.openshiftdashboard.config;
 
 import lombok.Data;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Data // Lombok annotation for getters, setters, toString, etc.
 public class OpenShiftInstanceProperties {
@@ -12,4 +15,12 @@ public class OpenShiftInstanceProperties {
     private String token; // Alternative to username/password
     private List<String> namespaces;
     private String dataCenter; // User-defined data center name
+    private int maxConcurrentNamespaces = 4; // Namespaces fetched in parallel against this cluster
+    private long refreshTimeoutSeconds = 120; // Whole-instance budget; on expiry the previous data is kept and marked stale
+    private long listPageSize = 500; // Pods per list call (limit/continue); bounds the fabric8 objects held at once
+    private String labelSelector; // Sent with every pod list, watch and metrics call, e.g. "app.kubernetes.io/part-of=payments"
+    private String fieldSelector; // Sent with pod list and watch calls, e.g. "status.phase!=Succeeded"
+    private Long inventoryIntervalSeconds; // Overrides openshift.inventory-interval-seconds for this cluster
+    private Long metricsIntervalSeconds; // Overrides openshift.metrics-interval-seconds for this cluster
+    private Map<String, NamespaceRefreshProperties> namespaceOverrides = new LinkedHashMap<>(); // Keyed by namespace; cadences and extra selectors
 }
\ No newline at end of file
@@ -8,5 +8,23 @@ import java.util.List;
 @ConfigurationProperties(prefix = "openshift")
 public class OpenShiftProperties {
     private List<OpenShiftInstanceProperties> instances;
-    private String schedulerCron = "0 0/30 * * * ?"; // Default: every 30 mins
+    private long inventoryIntervalSeconds = 900; // Pod list refresh cadence; instances and namespaces can override it
+    // Deprecated: the single refresh cron used before the inventory/metrics split. When set, the period between its
+    // next two fire times replaces inventory-interval-seconds.
+    @Deprecated
+    private String schedulerCron;
+    private long metricsIntervalSeconds = 900; // Usage-only refresh cadence; only scheduled where shorter than the inventory interval
+    private long refreshBackoffMaxSeconds = 3600; // Longest delay between attempts against a failing instance/namespace
+    private double refreshJitterRatio = 0.1; // Each delay is randomly stretched or shortened by up to this fraction
+    private int maxParallelInstances = 4; // Instances refreshed concurrently
+    private int clientRebuildAfterAuthFailures = 3; // Consecutive 401s before an instance's client is recreated
+    private boolean watchEnabled = false; // Keep pod inventory current from watch events; the inventory refresh stays as fallback
+    private long informerResyncSeconds = 300; // Informer resync period; re-delivers every cached pod to heal missed updates
+    private long watchPublishIntervalMs = 1000; // How often coalesced watch events are published to the cache
+    private int usageHistorySamples = 96; // Usage samples kept per pod, one per usage update (96 = 24h at the default 900s)
+    private long staleDataThresholdSeconds = 3600; // Health reports an instance as stale once its data is older than this (at least 2x its inventory interval)
+    private int streamQueueCapacity = 32; // Live-update events buffered per browser before it is told to reload instead
+    private int streamSendThreads = 8; // Threads writing live-update events to browsers, shared by all of them
+    private String snapshotFile = "data/pod-snapshot.bin"; // Last good cache, reloaded at startup; blank disables
+    private boolean refreshOnStartup = true; // Start the first refresh as soon as the application is ready, not after the first interval
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.openshiftdashboard.config;
+
+import com.example.openshiftdashboard.controller.RenderTimingInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RenderTimingInterceptor renderTimingInterceptor;
+
+    public WebConfig(RenderTimingInterceptor renderTimingInterceptor) {
+        this.renderTimingInterceptor = renderTimingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Actuator calls are already covered by http.server.requests and would only add noise;
+        // the pod stream stays open for hours and would skew the render timer
+        registry.addInterceptor(renderTimingInterceptor).excludePathPatterns("/actuator/**", "/api/pods/stream");
+    }
+}
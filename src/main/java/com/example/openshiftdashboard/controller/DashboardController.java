@@ -1,24 +1,39 @@
 package com.example.openshiftdashboard.controller;
 
-import com.example.openshiftdashboard.dto.PodUIDetail;
+import com.example.openshiftdashboard.dto.RefreshJobStatus;
+import com.example.openshiftdashboard.dto.ResourceRollupReport;
 import com.example.openshiftdashboard.service.DashboardDataService;
+import com.example.openshiftdashboard.service.PodSnapshot;
+import com.example.openshiftdashboard.service.RefreshCoordinator;
+import com.example.openshiftdashboard.service.RefreshJob;
+import com.example.openshiftdashboard.service.ResourceRollupService;
+import com.example.openshiftdashboard.service.RollupDimension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.net.URI;
 
 @Controller
 public class DashboardController {
 
     private final DashboardDataService dashboardDataService;
+    private final RefreshCoordinator refreshCoordinator;
+    private final ResourceRollupService resourceRollupService;
 
-    public DashboardController(DashboardDataService dashboardDataService) {
+    public DashboardController(DashboardDataService dashboardDataService, RefreshCoordinator refreshCoordinator,
+                               ResourceRollupService resourceRollupService) {
         this.dashboardDataService = dashboardDataService;
+        this.refreshCoordinator = refreshCoordinator;
+        this.resourceRollupService = resourceRollupService;
     }
 
     @GetMapping("/")
@@ -26,43 +41,74 @@ public class DashboardController {
                                @RequestParam(required = false) String filterDataCenter,
                                @RequestParam(required = false) String filterNamespace,
                                @RequestParam(required = false) String filterAppName,
-                               @RequestParam(required = false) String filterPodStatus) {
-        List<PodUIDetail> allDetails = dashboardDataService.getAllPodDetails();
-        Stream<PodUIDetail> filteredStream = allDetails.stream();
+                               @RequestParam(required = false) String filterPodStatus,
+                               @RequestParam(required = false) String q,
+                               @RequestParam(required = false) String labelSelector) {
+        PodSnapshot snapshot = dashboardDataService.getSnapshot();
 
-        if (filterDataCenter != null && !filterDataCenter.isEmpty()) {
-            filteredStream = filteredStream.filter(p -> filterDataCenter.equalsIgnoreCase(p.getDataCenter()));
-        }
-        if (filterNamespace != null && !filterNamespace.isEmpty()) {
-            filteredStream = filteredStream.filter(p -> filterNamespace.equalsIgnoreCase(p.getNamespace()));
-        }
-        if (filterAppName != null && !filterAppName.isEmpty()) {
-            filteredStream = filteredStream.filter(p -> p.getApplicationName() != null && p.getApplicationName().toLowerCase().contains(filterAppName.toLowerCase()));
-        }
-        if (filterPodStatus != null && !filterPodStatus.isEmpty()) {
-            filteredStream = filteredStream.filter(p -> filterPodStatus.equalsIgnoreCase(p.getPodStatus()));
-        }
-
-        model.addAttribute("podDetailsList", filteredStream.collect(Collectors.toList()));
-        model.addAttribute("dataCenters", allDetails.stream().map(PodUIDetail::getDataCenter).distinct().sorted().collect(Collectors.toList()));
-        model.addAttribute("namespaces", allDetails.stream().map(PodUIDetail::getNamespace).distinct().sorted().collect(Collectors.toList()));
-        model.addAttribute("podStatuses", allDetails.stream().map(PodUIDetail::getPodStatus).distinct().sorted().collect(Collectors.toList()));
+        // Rows are loaded page by page from /api/pods; the page itself only carries the filter facets
+        model.addAttribute("dataCenters", snapshot.getDataCenters());
+        model.addAttribute("namespaces", snapshot.getNamespaces());
+        model.addAttribute("podStatuses", snapshot.getPodStatuses());
 
         // Pass current filter values back to the view to repopulate filter fields
         model.addAttribute("currentDataCenter", filterDataCenter);
         model.addAttribute("currentNamespace", filterNamespace);
         model.addAttribute("currentAppName", filterAppName);
         model.addAttribute("currentPodStatus", filterPodStatus);
+        model.addAttribute("currentQuery", q);
+        model.addAttribute("currentLabelSelector", labelSelector);
 
 
         return "dashboard"; // Name of the Thymeleaf HTML file (dashboard.html)
     }
 
-    // Optional: Endpoint to refresh data manually via HTTP GET
-    @GetMapping("/refresh-data")
+    // Summed requests, limits and usage per application, namespace, node or data center (same data as /api/rollups)
+    @GetMapping("/rollups")
+    public String getRollups(Model model,
+                             @RequestParam(defaultValue = "application") String groupBy,
+                             @RequestParam(required = false) String dataCenter,
+                             @RequestParam(required = false) String sort) {
+        ResourceRollupReport report;
+        try {
+            report = resourceRollupService.getRollups(RollupDimension.fromParameter(groupBy), dataCenter, sort);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        model.addAttribute("report", report);
+        model.addAttribute("dimensions", RollupDimension.values());
+        model.addAttribute("dataCenters", dashboardDataService.getSnapshot().getDataCenters());
+        model.addAttribute("currentSort", StringUtils.hasText(sort) ? sort : "name");
+        return "rollups";
+    }
+
+    /**
+     * Starts a background refresh of everything, one instance, or one namespace of an instance and returns its job
+     * right away (202). Triggers for a scope that is already being refreshed join the running job.
+     */
+    @RequestMapping(value = "/refresh-data", method = {RequestMethod.GET, RequestMethod.POST})
     @ResponseBody // Indicates the return value should be directly in the response body
-    public String manualRefreshData() {
-        dashboardDataService.refreshAllData();
-        return "Data refresh initiated. Check logs for status. New data will appear on next dashboard load/refresh.";
+    public ResponseEntity<RefreshJobStatus> manualRefreshData(@RequestParam(required = false) String instance,
+                                                              @RequestParam(required = false) String namespace) {
+        RefreshJob job;
+        try {
+            job = refreshCoordinator.submit(StringUtils.hasText(instance) ? instance : null, StringUtils.hasText(namespace) ? namespace : null);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/refresh-status?jobId=" + job.getId()))
+                .body(job.toStatus());
+    }
+
+    // Progress of a refresh job; the most recent one when no jobId is given
+    @GetMapping("/refresh-status")
+    @ResponseBody
+    public RefreshJobStatus refreshStatus(@RequestParam(required = false) String jobId) {
+        RefreshJob job = jobId != null ? refreshCoordinator.getJob(jobId) : refreshCoordinator.getLatestJob();
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, jobId != null ? "Unknown refresh job " + jobId : "No refresh has run yet");
+        }
+        return job.toStatus();
     }
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.example.openshiftdashboard.controller;
+
+import com.example.openshiftdashboard.dto.LivePodList;
+import com.example.openshiftdashboard.dto.PodPage;
+import com.example.openshiftdashboard.dto.PodUIDetail;
+import com.example.openshiftdashboard.dto.UsageHistory;
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.service.DashboardDataService;
+import com.example.openshiftdashboard.service.PodDrillDownService;
+import com.example.openshiftdashboard.service.PodFilter;
+import com.example.openshiftdashboard.service.PodSearchQuery;
+import com.example.openshiftdashboard.service.PodSnapshot;
+import com.example.openshiftdashboard.service.PodStreamService;
+import com.example.openshiftdashboard.service.UsageHistoryStore;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import static java.util.Map.entry;
+
+/**
+ * JSON API behind the dashboard table: same filters as the page plus free-text search ({@code q}, see
+ * {@link PodSearchQuery}), server-side paging and sorting.
+ * The ETag identifies the cache snapshot, so a client re-requesting the same URL gets a 304 until data changes.
+ */
+@RestController
+@RequestMapping("/api")
+public class PodApiController {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private static final Map<String, Function<PodRecord, String>> SORTABLE_TEXT_FIELDS = Map.ofEntries(
+            entry("dataCenter", PodRecord::getDataCenter),
+            entry("namespace", PodRecord::getNamespace),
+            entry("podName", PodRecord::getPodName),
+            entry("applicationName", PodRecord::getApplicationName),
+            entry("applicationVersion", PodRecord::getApplicationVersion),
+            entry("deploymentType", PodRecord::getDeploymentType),
+            entry("helmChartInfo", PodRecord::getHelmChartInfo),
+            entry("dockerImage", PodRecord::getDockerImage),
+            entry("podStatus", PodRecord::getPodStatus),
+            entry("podIP", PodRecord::getPodIP),
+            entry("nodeName", PodRecord::getNodeName));
+
+    // Numeric fields sort by value; placeholders (negative sentinels, see ResourceQuantities) sort first ascending
+    private static final Map<String, ToLongFunction<PodRecord>> SORTABLE_NUMERIC_FIELDS = Map.ofEntries(
+            entry("currentCpuRequest", PodRecord::getCpuRequestMillis),
+            entry("currentMemoryRequest", PodRecord::getMemoryRequestBytes),
+            entry("currentCpuLimit", PodRecord::getCpuLimitMillis),
+            entry("currentMemoryLimit", PodRecord::getMemoryLimitBytes),
+            entry("currentCpuUsage", PodRecord::getCpuUsageMillis),
+            entry("currentMemoryUsage", PodRecord::getMemoryUsageBytes),
+            entry("creationTimestamp", PodRecord::getCreationEpochMillis));
+
+    private final DashboardDataService dashboardDataService;
+    private final UsageHistoryStore usageHistoryStore;
+    private final PodStreamService podStreamService;
+    private final PodDrillDownService podDrillDownService;
+
+    public PodApiController(DashboardDataService dashboardDataService, UsageHistoryStore usageHistoryStore,
+                            PodStreamService podStreamService, PodDrillDownService podDrillDownService) {
+        this.dashboardDataService = dashboardDataService;
+        this.usageHistoryStore = usageHistoryStore;
+        this.podStreamService = podStreamService;
+        this.podDrillDownService = podDrillDownService;
+    }
+
+    @GetMapping("/pods")
+    public ResponseEntity<PodPage> getPods(WebRequest webRequest,
+                                           @RequestParam(required = false) String filterDataCenter,
+                                           @RequestParam(required = false) String filterNamespace,
+                                           @RequestParam(required = false) String filterAppName,
+                                           @RequestParam(required = false) String filterPodStatus,
+                                           @RequestParam(required = false) String q,
+                                           @RequestParam(defaultValue = "0") int page,
+                                           @RequestParam(defaultValue = "50") int size,
+                                           @RequestParam(required = false) String sort) {
+        // Everything in the request is validated first, so a bad request is a 400 even when the ETag matches
+        PodFilter podFilter = new PodFilter(filterDataCenter, filterNamespace, filterAppName, filterPodStatus, parseQuery(q));
+        Comparator<PodRecord> comparator = parseSort(sort);
+        int pageSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+        int pageIndex = Math.max(0, page);
+        PodSnapshot snapshot = dashboardDataService.getSnapshot();
+        // The URL identifies the query, so the snapshot (version and boot) alone identifies the response
+        String etag = SnapshotETags.of(snapshot.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null; // Spring has already written the 304
+        }
+
+        List<PodRecord> matching = snapshot.filter(podFilter);
+        if (comparator != null) {
+            matching = new ArrayList<>(matching);
+            matching.sort(comparator);
+        }
+
+        int from = (int) Math.min((long) pageIndex * pageSize, matching.size());
+        int to = Math.min(from + pageSize, matching.size());
+        int totalPages = (matching.size() + pageSize - 1) / pageSize;
+        // Only the rows on this page are converted to display strings
+        List<PodUIDetail> content = matching.subList(from, to).stream().map(PodRecord::toUIDetail).toList();
+        PodPage body = new PodPage(content, pageIndex, pageSize, matching.size(), totalPages, snapshot.getVersion());
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache()) // Always revalidate; the ETag makes that cheap
+                .body(body);
+    }
+
+    /**
+     * Server-Sent Events stream of row changes matching the given filters: "sync" on connect, then "delta"
+     * (added/changed/removed rows) per published snapshot, or "resync" when the client should reload its page.
+     */
+    @GetMapping(path = "/pods/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPods(@RequestParam(required = false) String filterDataCenter,
+                                 @RequestParam(required = false) String filterNamespace,
+                                 @RequestParam(required = false) String filterAppName,
+                                 @RequestParam(required = false) String filterPodStatus,
+                                 @RequestParam(required = false) String q) {
+        return podStreamService.subscribe(new PodFilter(filterDataCenter, filterNamespace, filterAppName, filterPodStatus, parseQuery(q)));
+    }
+
+    /**
+     * Live drill-down into one namespace, bypassing the cache: status and the label/field selectors are evaluated by
+     * the API server (on top of each instance's configured selectors), so only matching pods are transferred.
+     * Returns at most {@code limit} pods per instance; {@code truncated} says whether more matched.
+     */
+    @GetMapping("/pods/live")
+    public ResponseEntity<LivePodList> getLivePods(@RequestParam String filterNamespace,
+                                                   @RequestParam(required = false) String instance,
+                                                   @RequestParam(required = false) String filterDataCenter,
+                                                   @RequestParam(required = false) String filterAppName,
+                                                   @RequestParam(required = false) String filterPodStatus,
+                                                   @RequestParam(required = false) String q,
+                                                   @RequestParam(required = false) String labelSelector,
+                                                   @RequestParam(required = false) String fieldSelector,
+                                                   @RequestParam(defaultValue = "" + MAX_PAGE_SIZE) int limit) {
+        try {
+            LivePodList body = podDrillDownService.fetch(instance, filterDataCenter, filterNamespace, filterAppName, filterPodStatus,
+                    PodSearchQuery.parse(q), labelSelector, fieldSelector, Math.min(Math.max(1, limit), MAX_PAGE_SIZE));
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore()) // Fetched live; there is no version to revalidate against
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Min/avg/p95/max and sparkline series over the retained usage window for one pod
+    @GetMapping("/pods/{uid}/usage-history")
+    public UsageHistory getUsageHistory(@PathVariable String uid) {
+        UsageHistory history = usageHistoryStore.getHistory(uid);
+        if (history == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No usage history for pod " + uid);
+        }
+        return history;
+    }
+
+    private static PodSearchQuery parseQuery(String q) {
+        try {
+            return PodSearchQuery.parse(q);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Accepts "field" or "field,asc|desc"; null text sorts last either way
+    private static Comparator<PodRecord> parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return null;
+        }
+        String[] parts = sort.split(",", 2);
+        String fieldName = parts[0].trim();
+        boolean descending = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim());
+        Function<PodRecord, String> textField = SORTABLE_TEXT_FIELDS.get(fieldName);
+        if (textField != null) {
+            Comparator<String> order = descending ? String.CASE_INSENSITIVE_ORDER.reversed() : String.CASE_INSENSITIVE_ORDER;
+            return Comparator.comparing(textField, Comparator.nullsLast(order));
+        }
+        ToLongFunction<PodRecord> numericField = SORTABLE_NUMERIC_FIELDS.get(fieldName);
+        if (numericField != null) {
+            Comparator<PodRecord> order = Comparator.comparingLong(numericField);
+            return descending ? order.reversed() : order;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sort field: " + fieldName);
+    }
+}
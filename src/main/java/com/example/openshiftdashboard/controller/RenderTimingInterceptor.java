@@ -0,0 +1,40 @@
+package com.example.openshiftdashboard.controller;
+
+import com.example.openshiftdashboard.service.RefreshMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Times this application's controllers from handler entry until the response is complete, so Thymeleaf
+ * rendering of the dashboard is included (http.server.requests has no per-controller-method breakdown).
+ */
+@Component
+public class RenderTimingInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RenderTimingInterceptor.class.getName() + ".start";
+
+    private final RefreshMetrics refreshMetrics;
+
+    public RenderTimingInterceptor(RefreshMetrics refreshMetrics) {
+        this.refreshMetrics = refreshMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (handler instanceof HandlerMethod handlerMethod && request.getAttribute(START_ATTRIBUTE) instanceof Long startNanos) {
+            String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            refreshMetrics.recordRender(name, response.getStatus(), System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.openshiftdashboard.controller;
+
+import com.example.openshiftdashboard.dto.ResourceRollupReport;
+import com.example.openshiftdashboard.service.ResourceRollupService;
+import com.example.openshiftdashboard.service.RollupDimension;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Resource rollups as JSON, e.g. {@code /api/rollups?groupBy=application&dataCenter=DC-West&sort=cpuRequest}.
+ * Like /api/pods, the ETag identifies the snapshot the rollups reflect.
+ */
+@RestController
+@RequestMapping("/api")
+public class RollupApiController {
+
+    private final ResourceRollupService resourceRollupService;
+
+    public RollupApiController(ResourceRollupService resourceRollupService) {
+        this.resourceRollupService = resourceRollupService;
+    }
+
+    @GetMapping("/rollups")
+    public ResponseEntity<ResourceRollupReport> getRollups(WebRequest webRequest,
+                                                           @RequestParam(defaultValue = "application") String groupBy,
+                                                           @RequestParam(required = false) String dataCenter,
+                                                           @RequestParam(required = false) String sort) {
+        RollupDimension dimension;
+        try {
+            dimension = RollupDimension.fromParameter(groupBy);
+            ResourceRollupService.validateSort(sort); // Before the ETag check, so a bad request is never answered with 304
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        // Revalidation is answered from the version alone, without merging any groups
+        if (webRequest.checkNotModified(SnapshotETags.of(resourceRollupService.getSnapshotVersion()))) {
+            return null; // Spring has already written the 304
+        }
+        ResourceRollupReport report;
+        try {
+            report = resourceRollupService.getRollups(dimension, dataCenter, sort);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.ok()
+                .eTag(SnapshotETags.of(report.getSnapshotVersion())) // Rollups may have moved on since the check
+                .cacheControl(CacheControl.noCache())
+                .body(report);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.openshiftdashboard.controller;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ETags for responses derived from a cache snapshot. Snapshot versions restart at 1 on every boot, so the version
+ * alone would let a browser's cached response from before a restart match a different snapshot with the same
+ * number; a random per-boot id makes those ETags unique to this process.
+ */
+final class SnapshotETags {
+
+    private static final String BOOT_ID = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    private SnapshotETags() {
+    }
+
+    static String of(long snapshotVersion) {
+        return "\"" + BOOT_ID + "-" + snapshotVersion + "\"";
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstanceRefreshResult {
+    private String instanceName;
+    private InstanceRefreshStatus status;
+    private int podCount; // Rows published for this instance, including carried-over stale rows
+    private List<String> failedNamespaces;
+    private long durationMillis;
+    private String message; // Failure reason when not OK, e.g. "Timed out after 120s"
+}
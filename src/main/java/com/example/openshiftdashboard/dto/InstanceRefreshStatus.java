@@ -0,0 +1,7 @@
+package com.example.openshiftdashboard.dto;
+
+public enum InstanceRefreshStatus {
+    OK, // All namespaces fetched
+    PARTIAL, // Some namespaces failed; their previous data was kept
+    STALE // The whole instance failed or timed out; its previous data was kept
+}
@@ -0,0 +1,22 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LivePodList {
+    private List<PodUIDetail> content;
+    private String namespace;
+    private String labelSelector; // Ad-hoc selectors sent on top of the configured ones
+    private String fieldSelector;
+    private List<String> instances; // Instances that were queried
+    private List<String> failedInstances;
+    private boolean truncated; // Some instance has more matching pods than the limit
+    private Instant fetchedAt;
+}
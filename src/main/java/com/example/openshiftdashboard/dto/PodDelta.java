@@ -0,0 +1,19 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PodDelta {
+    private long fromVersion; // Snapshot version the client's rows must be at for this delta to apply
+    private long version;
+    private List<PodUIDetail> added; // New rows, and rows that now match the subscriber's filter
+    private List<PodUIDetail> changed;
+    private List<PodUsagePatch> usage; // Rows whose only change is their usage figures, e.g. after a metrics refresh
+    private List<String> removed; // Row keys: the pod UID, or namespace/name when it has none
+}
@@ -0,0 +1,19 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PodPage {
+    private List<PodUIDetail> content;
+    private int page; // Zero-based
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private long snapshotVersion; // Cache snapshot the page was cut from
+}
@@ -27,4 +27,5 @@ public class PodUIDetail {
     private String nodeName;
     private String creationTimestamp;
     private String uid; // For unique identification in UI if needed
+    private boolean stale; // Restored from disk at startup; not yet confirmed by a live refresh
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// New usage figures for a row whose other fields are unchanged; same field names as PodUIDetail
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PodUsagePatch {
+    private String key; // The pod UID, or namespace/name when it has none
+    private String currentCpuUsage;
+    private String currentMemoryUsage;
+}
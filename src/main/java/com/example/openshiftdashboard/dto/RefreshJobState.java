@@ -0,0 +1,7 @@
+package com.example.openshiftdashboard.dto;
+
+public enum RefreshJobState {
+    RUNNING, // Some instances are still being fetched
+    COMPLETED, // Every instance finished (OK, PARTIAL or STALE) and the cache was republished
+    FAILED // The results could not be published; the previous snapshot is still being served
+}
@@ -0,0 +1,24 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshJobStatus {
+    private String jobId;
+    private RefreshJobState state;
+    private String instanceName; // Null when the job refreshes every instance
+    private List<String> namespaces; // Null when every namespace of the instance(s) is refreshed
+    private Instant startedAt;
+    private Instant completedAt;
+    private int instancesTotal;
+    private int instancesCompleted;
+    private List<InstanceRefreshResult> instances; // Results of the instances finished so far
+    private Integer totalPods; // Rows in the published cache once the job has completed
+}
@@ -0,0 +1,18 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshResult {
+    private Instant startedAt;
+    private Instant completedAt;
+    private int totalPods;
+    private List<InstanceRefreshResult> instances;
+}
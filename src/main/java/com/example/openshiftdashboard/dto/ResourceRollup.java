@@ -0,0 +1,35 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summed requests, limits and usage of all pods in one group (application, namespace, node or data center).
+ * Pods without a value (no request set, usage not reported) add nothing to that sum; podsWithUsage tells
+ * how many pods the usage figures cover, and podsWithoutCpuLimit / podsWithoutMemoryLimit how many pods are
+ * left out of the limit sums because they are unbounded (or their limit is unparseable).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRollup {
+    private String name;
+    private String dataCenter; // Null when the group is summed across data centers
+    private int podCount;
+    private int podsWithUsage;
+    private int podsWithoutCpuLimit;
+    private int podsWithoutMemoryLimit;
+    private long cpuRequestMillis;
+    private long cpuLimitMillis;
+    private long cpuUsageMillis;
+    private long memoryRequestBytes;
+    private long memoryLimitBytes;
+    private long memoryUsageBytes;
+    private String cpuRequest;
+    private String cpuLimit;
+    private String cpuUsage;
+    private String memoryRequest;
+    private String memoryLimit;
+    private String memoryUsage;
+}
@@ -0,0 +1,18 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRollupReport {
+    private String groupBy;
+    private String dataCenter; // Null unless the rollups were restricted to one data center
+    private long snapshotVersion; // Cache snapshot the rollups are up to date with
+    private ResourceRollup total; // Sum of all rows
+    private List<ResourceRollup> rows;
+}
@@ -0,0 +1,22 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A pod's recent usage samples. A sample is kept when either CPU or memory was reported, so one series can have
+ * gaps: those points are {@code null} (JSON null) rather than a placeholder value, and the stats skip them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsageHistory {
+    private String uid;
+    private int sampleCount;
+    private long[] sampleTimes; // Epoch millis, oldest first
+    private Long[] cpuMillicores; // Sparkline series, aligned with sampleTimes; null where CPU was not reported
+    private Long[] memoryBytes; // Sparkline series, aligned with sampleTimes; null where memory was not reported
+    private UsageStats cpu; // null if no CPU sample in the window
+    private UsageStats memory; // null if no memory sample in the window
+}
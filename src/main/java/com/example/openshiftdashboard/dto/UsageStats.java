@@ -0,0 +1,15 @@
+package com.example.openshiftdashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UsageStats {
+    private long min;
+    private double avg;
+    private long p95;
+    private long max;
+}
@@ -0,0 +1,100 @@
+package com.example.openshiftdashboard.model;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Numeric encoding of Kubernetes CPU and memory quantities: CPU as millicores, memory as bytes.
+ * Negative values are sentinels for the placeholder texts the dashboard shows instead of a number.
+ */
+public final class ResourceQuantities {
+
+    public static final long NOT_SET = -1; // "N/A": no request/limit, or usage field missing
+    public static final long NOT_REPORTED = -2; // Metrics-server returned no entry for the pod
+    public static final long METRICS_UNAVAILABLE = -3; // The namespace's metrics call failed
+    public static final long INVALID = -4; // Quantity present but unparseable
+
+    private static final long KI = 1024L;
+    private static final long MI = KI * 1024;
+    private static final long GI = MI * 1024;
+    private static final long TI = GI * 1024;
+
+    private ResourceQuantities() {
+    }
+
+    public static long toMillicores(Quantity quantity) {
+        if (quantity == null) {
+            return NOT_SET;
+        }
+        try {
+            return quantity.getNumericalAmount().multiply(BigDecimal.valueOf(1000)).setScale(0, RoundingMode.CEILING).longValueExact();
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            return INVALID;
+        }
+    }
+
+    public static long toBytes(Quantity quantity) {
+        if (quantity == null) {
+            return NOT_SET;
+        }
+        try {
+            return quantity.getNumericalAmount().setScale(0, RoundingMode.CEILING).longValueExact();
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            return INVALID;
+        }
+    }
+
+    public static boolean isValue(long encoded) {
+        return encoded >= 0;
+    }
+
+    // e.g. 250 -> "250m", 2000 -> "2"
+    public static String formatCpu(long millicores) {
+        if (!isValue(millicores)) {
+            return placeholder(millicores);
+        }
+        return millicores % 1000 == 0 ? Long.toString(millicores / 1000) : millicores + "m";
+    }
+
+    // e.g. 536870912 -> "512Mi", 1610612736 -> "1.5Gi"
+    public static String formatMemory(long bytes) {
+        if (!isValue(bytes)) {
+            return placeholder(bytes);
+        }
+        if (bytes >= TI) {
+            return scaled(bytes, TI, "Ti");
+        }
+        if (bytes >= GI) {
+            return scaled(bytes, GI, "Gi");
+        }
+        if (bytes >= MI) {
+            return scaled(bytes, MI, "Mi");
+        }
+        if (bytes >= KI) {
+            return scaled(bytes, KI, "Ki");
+        }
+        return Long.toString(bytes);
+    }
+
+    private static String scaled(long bytes, long unit, String suffix) {
+        if (bytes % unit == 0) {
+            return bytes / unit + suffix;
+        }
+        return BigDecimal.valueOf(bytes).divide(BigDecimal.valueOf(unit), 1, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString() + suffix;
+    }
+
+    private static String placeholder(long sentinel) {
+        if (sentinel == NOT_REPORTED) {
+            return "N/A (Not Reported)";
+        }
+        if (sentinel == METRICS_UNAVAILABLE) {
+            return "N/A (Metrics NA)";
+        }
+        if (sentinel == INVALID) {
+            return "N/A (Invalid)";
+        }
+        return "N/A";
+    }
+}
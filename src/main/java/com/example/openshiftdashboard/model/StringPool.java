@@ -0,0 +1,61 @@
+package com.example.openshiftdashboard.model;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonical instances for the low-cardinality pod fields (data center, namespace, node, image, status, ...),
+ * so thousands of pods share one String per distinct value instead of each holding its own copy.
+ * Unlike {@link String#intern()} the pool lives on the regular heap and only holds values we put in it.
+ *
+ * <p>Entries are weak: a value stays pooled only while some cached row still references it, so images, nodes and
+ * chart versions that rotate out of the fleet are collected instead of accumulating for the life of the process.
+ * The pool is split into stripes so parallel namespace fetches rarely contend on one lock.
+ */
+public final class StringPool {
+
+    private static final int STRIPES = 16; // Power of two
+    // The value is a weak reference to the key itself, since a strong one would keep every entry alive
+    private static final Map<String, WeakReference<String>>[] POOL = newStripes();
+
+    private StringPool() {
+    }
+
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = value.hashCode();
+        Map<String, WeakReference<String>> stripe = POOL[(hash ^ hash >>> 16) & (STRIPES - 1)];
+        synchronized (stripe) {
+            WeakReference<String> existing = stripe.get(value);
+            String canonical = existing != null ? existing.get() : null;
+            if (canonical != null) {
+                return canonical;
+            }
+            stripe.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    @SuppressWarnings("unchecked") // No generic array creation in Java; every element is created with the declared type
+    private static Map<String, WeakReference<String>>[] newStripes() {
+        Map<String, WeakReference<String>>[] stripes = (Map<String, WeakReference<String>>[]) new Map<?, ?>[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new WeakHashMap<>();
+        }
+        return stripes;
+    }
+
+    // Distinct values still referenced (approximately; collected entries are purged lazily)
+    public static int size() {
+        int size = 0;
+        for (Map<String, WeakReference<String>> stripe : POOL) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+}
@@ -1,25 +1,231 @@
 package com.example.openshiftdashboard.scheduler;
 
+import com.example.openshiftdashboard.config.NamespaceRefreshProperties;
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.dto.InstanceRefreshStatus;
+import com.example.openshiftdashboard.dto.RefreshResult;
 import com.example.openshiftdashboard.service.DashboardDataService;
+import com.example.openshiftdashboard.service.RefreshCoordinator;
+import com.example.openshiftdashboard.service.RefreshJob;
+import com.example.openshiftdashboard.service.SnapshotStore;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.support.CronExpression;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives refreshes on two independent cadences: inventory (pod lists, through {@link RefreshCoordinator}) and
+ * metrics (usage only, one metrics-server call per namespace). Each instance can override both intervals, and so
+ * can each of its namespaces, so hot namespaces stay fresh without relisting everything. Namespaces of an instance
+ * that end up on the same interval are refreshed together. See {@link ScheduledRefresh} for backoff and jitter.
+ */
 @Component
 public class DataRefreshScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(DataRefreshScheduler.class);
+    private final RefreshCoordinator refreshCoordinator;
     private final DashboardDataService dashboardDataService;
+    private final SnapshotStore snapshotStore;
+    private final OpenShiftProperties openShiftProperties;
+    // Metrics refreshes bypass the coordinator; they are small and never overlap themselves
+    private final ExecutorService metricsExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("metrics-refresh-"));
+    private volatile List<ScheduledRefresh> scheduledRefreshes = Collections.emptyList();
+    private final long defaultInventoryIntervalSeconds;
 
-    public DataRefreshScheduler(DashboardDataService dashboardDataService) {
+    public DataRefreshScheduler(RefreshCoordinator refreshCoordinator, DashboardDataService dashboardDataService,
+                                SnapshotStore snapshotStore, OpenShiftProperties openShiftProperties) {
+        this.refreshCoordinator = refreshCoordinator;
         this.dashboardDataService = dashboardDataService;
+        this.snapshotStore = snapshotStore;
+        this.openShiftProperties = openShiftProperties;
+        this.defaultInventoryIntervalSeconds = defaultInventoryIntervalSeconds(openShiftProperties);
+    }
+
+    // openshift.scheduler-cron predates the separate cadences; honour it as the inventory interval rather than dropping it silently
+    @SuppressWarnings("deprecation")
+    private static long defaultInventoryIntervalSeconds(OpenShiftProperties openShiftProperties) {
+        String schedulerCron = openShiftProperties.getSchedulerCron();
+        if (!StringUtils.hasText(schedulerCron)) {
+            return openShiftProperties.getInventoryIntervalSeconds();
+        }
+        CronExpression cron = CronExpression.parse(schedulerCron); // Invalid expressions fail startup, as they always did
+        LocalDateTime first = cron.next(LocalDateTime.now());
+        LocalDateTime second = first != null ? cron.next(first) : null;
+        if (second == null) {
+            throw new IllegalArgumentException("openshift.scheduler-cron '" + schedulerCron + "' does not fire repeatedly");
+        }
+        long intervalSeconds = Math.max(1, Duration.between(first, second).toSeconds());
+        logger.warn("openshift.scheduler-cron is deprecated; use openshift.inventory-interval-seconds instead. "
+                + "Using '{}' as an inventory interval of {}s (ignoring inventory-interval-seconds={}).",
+                schedulerCron, intervalSeconds, openShiftProperties.getInventoryIntervalSeconds());
+        return intervalSeconds;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        metricsExecutor.shutdownNow();
+    }
+
+    // Serve the last persisted snapshot right away, then start a live refresh instead of waiting for the first interval.
+    // Runs before the watch informers start so restored rows never overwrite live ones.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUpOnStartup() {
+        List<String> instanceNames = openShiftProperties.getInstances() != null
+                ? openShiftProperties.getInstances().stream().map(OpenShiftInstanceProperties::getName).toList()
+                : Collections.emptyList();
+        dashboardDataService.restore(snapshotStore.load(), instanceNames);
+        List<ScheduledRefresh> planned = planRefreshes(); // Before the first refresh, which needs to know where metrics are scheduled
+        if (openShiftProperties.isRefreshOnStartup()) {
+            logger.info("Starting initial OpenShift data refresh.");
+            refreshCoordinator.refreshAll();
+        }
+        long now = System.currentTimeMillis();
+        // Without the startup refresh, spread the first runs over their interval rather than firing all at once
+        planned.forEach(refresh -> refresh.scheduleFirst(now, !openShiftProperties.isRefreshOnStartup()));
+        scheduledRefreshes = planned;
+    }
+
+    // Only starts whatever is due; the refreshes themselves run elsewhere, so this never holds up the scheduling pool
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+    public void runDueRefreshes() {
+        long now = System.currentTimeMillis();
+        for (ScheduledRefresh refresh : scheduledRefreshes) {
+            if (refresh.claimIfDue(now)) {
+                start(refresh);
+            }
+        }
+    }
+
+    private void start(ScheduledRefresh refresh) {
+        logger.debug("Scheduled {} triggered.", refresh.describe());
+        OpenShiftInstanceProperties instance = refresh.getInstance();
+        try {
+            if (refresh.getKind() == ScheduledRefresh.Kind.INVENTORY) {
+                // Joins a manual refresh if one already covers these namespaces
+                RefreshJob job = refreshCoordinator.submit(instance.getName(), refresh.getNamespaces());
+                job.getCompletion().whenComplete((result, error) -> completed(refresh, error != null || isStale(result, instance.getName())));
+            } else {
+                List<String> namespaces = refresh.getNamespaces() != null ? refresh.getNamespaces() : instance.getNamespaces();
+                metricsExecutor.execute(() -> {
+                    boolean fetched = false;
+                    try {
+                        fetched = dashboardDataService.refreshUsage(instance, namespaces);
+                    } catch (RuntimeException e) {
+                        logger.error("Unexpected error in {}: {}", refresh.describe(), e.getMessage(), e);
+                    } finally {
+                        completed(refresh, !fetched);
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            logger.error("Could not start {}: {}", refresh.describe(), e.getMessage());
+            completed(refresh, true);
+        }
+    }
+
+    private void completed(ScheduledRefresh refresh, boolean failed) {
+        long delayMillis = refresh.completed(failed, System.currentTimeMillis());
+        if (failed) {
+            logger.warn("Scheduled {} failed ({} in a row). Backing off; next attempt in {}s.",
+                    refresh.describe(), refresh.getConsecutiveFailures(), delayMillis / 1000);
+        }
+    }
+
+    private static boolean isStale(RefreshResult result, String instanceName) {
+        return result == null || result.getInstances().stream()
+                .anyMatch(instanceResult -> instanceName.equals(instanceResult.getInstanceName()) && instanceResult.getStatus() == InstanceRefreshStatus.STALE);
+    }
+
+    private List<ScheduledRefresh> planRefreshes() {
+        List<ScheduledRefresh> planned = new ArrayList<>();
+        if (openShiftProperties.getInstances() == null) {
+            return planned;
+        }
+        for (OpenShiftInstanceProperties instance : openShiftProperties.getInstances()) {
+            List<String> namespaces = instance.getNamespaces() != null
+                    ? instance.getNamespaces().stream().filter(StringUtils::hasText).distinct().toList() : List.of();
+            if (instance.getName() == null || namespaces.isEmpty()) {
+                continue;
+            }
+            namespaceOverrides(instance).keySet().stream().filter(namespace -> !namespaces.contains(namespace)).forEach(namespace ->
+                    logger.warn("Ignoring refresh interval override for namespace '{}': not configured for instance '{}'.", namespace, instance.getName()));
+            // Every inventory refresh fetches metrics too, so a separate metrics refresh only pays off where it runs more often
+            List<String> metricsScheduled = namespaces.stream().filter(namespace -> intervalSeconds(instance, namespace, ScheduledRefresh.Kind.METRICS)
+                    < intervalSeconds(instance, namespace, ScheduledRefresh.Kind.INVENTORY)).toList();
+            dashboardDataService.setMetricsScheduledNamespaces(instance.getName(), metricsScheduled);
+            if (metricsScheduled.size() < namespaces.size()) {
+                logger.info("Instance '{}': usage of {} is refreshed with the inventory; their metrics interval is not shorter.",
+                        instance.getName(), namespaces.stream().filter(namespace -> !metricsScheduled.contains(namespace)).toList());
+            }
+            for (ScheduledRefresh.Kind kind : ScheduledRefresh.Kind.values()) {
+                Map<Long, List<String>> namespacesByInterval = new TreeMap<>();
+                for (String namespace : kind == ScheduledRefresh.Kind.METRICS ? metricsScheduled : namespaces) {
+                    namespacesByInterval.computeIfAbsent(intervalSeconds(instance, namespace, kind), interval -> new ArrayList<>()).add(namespace);
+                }
+                namespacesByInterval.forEach((intervalSeconds, group) -> {
+                    // A group holding every namespace refreshes the whole instance, which keeps manual and scheduled jobs joinable
+                    ScheduledRefresh refresh = new ScheduledRefresh(kind, instance, group.size() == namespaces.size() ? null : group,
+                            intervalSeconds, openShiftProperties.getRefreshBackoffMaxSeconds(), openShiftProperties.getRefreshJitterRatio());
+                    planned.add(refresh);
+                    logger.info("Scheduled {} every {}s.", refresh.describe(), refresh.getIntervalSeconds());
+                });
+            }
+        }
+        return planned;
+    }
+
+    /**
+     * The longest inventory interval among the instance's namespaces, i.e. the longest any of its pod lists
+     * normally goes without a refresh.
+     */
+    public long longestInventoryIntervalSeconds(OpenShiftInstanceProperties instance) {
+        long longest = instance.getInventoryIntervalSeconds() != null ? instance.getInventoryIntervalSeconds() : defaultInventoryIntervalSeconds;
+        if (instance.getNamespaces() != null) {
+            for (String namespace : instance.getNamespaces()) {
+                longest = Math.max(longest, intervalSeconds(instance, namespace, ScheduledRefresh.Kind.INVENTORY));
+            }
+        }
+        return longest;
+    }
+
+    // Namespace override, else instance override, else the global interval
+    private long intervalSeconds(OpenShiftInstanceProperties instance, String namespace, ScheduledRefresh.Kind kind) {
+        boolean inventory = kind == ScheduledRefresh.Kind.INVENTORY;
+        NamespaceRefreshProperties namespaceOverride = namespaceOverrides(instance).get(namespace);
+        Long namespaceInterval = namespaceOverride == null ? null
+                : inventory ? namespaceOverride.getInventoryIntervalSeconds() : namespaceOverride.getMetricsIntervalSeconds();
+        if (namespaceInterval != null) {
+            return namespaceInterval;
+        }
+        Long instanceInterval = inventory ? instance.getInventoryIntervalSeconds() : instance.getMetricsIntervalSeconds();
+        if (instanceInterval != null) {
+            return instanceInterval;
+        }
+        return inventory ? defaultInventoryIntervalSeconds : openShiftProperties.getMetricsIntervalSeconds();
     }
 
-    // Cron expression from application.yml, e.g., "0 0/30 * * * ?" for every 30 minutes
-    @Scheduled(cron = "${openshift.scheduler-cron}")
-    public void refreshOpenShiftData() {
-        logger.info("Scheduled OpenShift data refresh triggered.");
-        dashboardDataService.refreshAllData();
+    private static Map<String, NamespaceRefreshProperties> namespaceOverrides(OpenShiftInstanceProperties instance) {
+        return instance.getNamespaceOverrides() != null ? instance.getNamespaceOverrides() : Collections.emptyMap(); // Null if set empty in YAML
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.example.openshiftdashboard.scheduler;
+
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One recurring refresh: inventory or metrics for a set of namespaces of one instance that share a cadence.
+ * After a failure the next attempt is pushed back exponentially (interval x 2^failures, capped), and every delay
+ * gets random jitter so refreshes planned at the same moment drift apart instead of hitting the API together.
+ */
+final class ScheduledRefresh {
+
+    enum Kind { INVENTORY, METRICS }
+
+    private final Kind kind;
+    private final OpenShiftInstanceProperties instance;
+    private final List<String> namespaces; // Null for every namespace of the instance
+    private final long intervalMillis;
+    private final long backoffMaxMillis;
+    private final double jitterRatio;
+
+    // Guarded by this; read by the scheduler tick, updated when the refresh completes on another thread
+    private long nextRunAtMillis;
+    private int consecutiveFailures;
+    private boolean running;
+
+    ScheduledRefresh(Kind kind, OpenShiftInstanceProperties instance, List<String> namespaces, long intervalSeconds,
+                     long backoffMaxSeconds, double jitterRatio) {
+        this.kind = kind;
+        this.instance = instance;
+        this.namespaces = namespaces;
+        this.intervalMillis = Math.max(1, intervalSeconds) * 1000;
+        this.backoffMaxMillis = Math.max(this.intervalMillis, backoffMaxSeconds * 1000);
+        this.jitterRatio = Math.min(Math.max(jitterRatio, 0), 0.9);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    OpenShiftInstanceProperties getInstance() {
+        return instance;
+    }
+
+    List<String> getNamespaces() {
+        return namespaces;
+    }
+
+    long getIntervalSeconds() {
+        return intervalMillis / 1000;
+    }
+
+    // First run: one interval from now, or a random point within the first interval to spread a cold start
+    synchronized void scheduleFirst(long nowMillis, boolean spread) {
+        nextRunAtMillis = nowMillis + (spread ? ThreadLocalRandom.current().nextLong(intervalMillis) : jittered(intervalMillis));
+    }
+
+    /**
+     * Marks the refresh as running if it is due and not already running.
+     */
+    synchronized boolean claimIfDue(long nowMillis) {
+        if (running || nowMillis < nextRunAtMillis) {
+            return false;
+        }
+        running = true;
+        return true;
+    }
+
+    /**
+     * Records the outcome and plans the next run; returns the delay until then in milliseconds.
+     */
+    synchronized long completed(boolean failed, long nowMillis) {
+        running = false;
+        consecutiveFailures = failed ? consecutiveFailures + 1 : 0;
+        long delay = intervalMillis;
+        for (int i = 0; i < consecutiveFailures && delay < backoffMaxMillis; i++) {
+            delay *= 2;
+        }
+        delay = jittered(Math.min(delay, backoffMaxMillis));
+        nextRunAtMillis = nowMillis + delay;
+        return delay;
+    }
+
+    synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    private long jittered(long delayMillis) {
+        if (jitterRatio == 0) {
+            return delayMillis;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        return Math.max(1000, (long) (delayMillis * factor));
+    }
+
+    String describe() {
+        return kind.name().toLowerCase() + " refresh of " + (namespaces == null ? "all namespaces" : "namespaces " + namespaces)
+                + " of instance " + instance.getName();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.scheduler.DataRefreshScheduler;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports how fresh each cluster's data is, as the "clusterData" health component. UP while every instance
+ * has returned data within its threshold, DEGRADED when some are stale and DOWN when all are. An instance's
+ * threshold is {@code openshift.stale-data-threshold-seconds}, raised to twice its longest inventory interval
+ * where that is longer, so a cluster relisted hourly is not reported stale between two on-time refreshes.
+ * An instance that has never returned data only counts as stale once the application has been up longer than
+ * its threshold, so a normal startup is not reported as an outage.
+ */
+@Component
+public class ClusterDataHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Some clusters have stale data");
+
+    private final OpenShiftProperties openShiftProperties;
+    private final DashboardDataService dashboardDataService;
+    private final DataRefreshScheduler dataRefreshScheduler;
+    private final Instant startedAt = Instant.now();
+
+    public ClusterDataHealthIndicator(OpenShiftProperties openShiftProperties, DashboardDataService dashboardDataService,
+                                      DataRefreshScheduler dataRefreshScheduler) {
+        this.openShiftProperties = openShiftProperties;
+        this.dashboardDataService = dashboardDataService;
+        this.dataRefreshScheduler = dataRefreshScheduler;
+    }
+
+    @Override
+    public Health health() {
+        if (openShiftProperties.getInstances() == null || openShiftProperties.getInstances().isEmpty()) {
+            return Health.unknown().withDetail("reason", "No OpenShift instances configured").build();
+        }
+        Instant now = Instant.now();
+        Map<String, Object> instances = new LinkedHashMap<>();
+        int staleCount = 0;
+        for (OpenShiftInstanceProperties instance : openShiftProperties.getInstances()) {
+            Instant lastFetchedAt = dashboardDataService.getLastFetchedAt(instance.getName());
+            // One late or failed refresh is tolerated; the next one missing as well is not
+            Duration threshold = Duration.ofSeconds(Math.max(openShiftProperties.getStaleDataThresholdSeconds(),
+                    2 * dataRefreshScheduler.longestInventoryIntervalSeconds(instance)));
+            Map<String, Object> detail = new LinkedHashMap<>();
+            boolean stale;
+            if (lastFetchedAt == null) {
+                stale = Duration.between(startedAt, now).compareTo(threshold) > 0;
+                detail.put("lastFetchedAt", null);
+            } else {
+                Duration age = Duration.between(lastFetchedAt, now);
+                stale = age.compareTo(threshold) > 0;
+                detail.put("lastFetchedAt", lastFetchedAt.toString());
+                detail.put("ageSeconds", age.toSeconds());
+            }
+            detail.put("staleThresholdSeconds", threshold.toSeconds());
+            detail.put("stale", stale);
+            instances.put(instance.getName(), detail);
+            if (stale) {
+                staleCount++;
+            }
+        }
+
+        Health.Builder builder;
+        if (staleCount == 0) {
+            builder = Health.up();
+        } else if (staleCount < openShiftProperties.getInstances().size()) {
+            builder = Health.status(DEGRADED);
+        } else {
+            builder = Health.down();
+        }
+        return builder.withDetail("staleThresholdSeconds", openShiftProperties.getStaleDataThresholdSeconds())
+                .withDetail("instances", instances)
+                .build();
+    }
+}
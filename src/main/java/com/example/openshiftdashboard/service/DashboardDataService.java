@@ -2,63 +2,388 @@ package com.example.openshiftdashboard.service;
 
 import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
 import com.example.openshiftdashboard.config.OpenShiftProperties;
-import com.example.openshiftdashboard.dto.PodUIDetail;
+import com.example.openshiftdashboard.dto.InstanceRefreshResult;
+import com.example.openshiftdashboard.dto.InstanceRefreshStatus;
+import com.example.openshiftdashboard.model.PodRecord;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 public class DashboardDataService {
     private static final Logger logger = LoggerFactory.getLogger(DashboardDataService.class);
 
-    private final OpenShiftProperties openShiftProperties;
     private final OpenShiftClientService openShiftClientService;
+    private final UsageHistoryStore usageHistoryStore;
+    private final ExecutorService instanceExecutor;
+    // Metrics refreshes get their own pool so frequent usage ticks can't hold up inventory refreshes, or the reverse
+    private final ExecutorService usageExecutor;
 
     // In-memory cache for simplicity. For larger scale, consider a distributed cache or database.
-    private final List<PodUIDetail> cachedPodDetails = new CopyOnWriteArrayList<>(); // Thread-safe for read/write
+    // Readers always get a complete, immutable snapshot; publishing swaps the reference in one step.
+    private volatile PodSnapshot snapshot = PodSnapshot.EMPTY;
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private final AtomicLong exportVersion = new AtomicLong();
+    // Current rows per instance name, keyed by pod UID. Carried over when an instance (or some of its namespaces) fails,
+    // and updated in place by watch events when openshift.watch-enabled is set.
+    private final Map<String, Map<String, PodRecord>> cachedPodDetailsByInstance = new ConcurrentHashMap<>();
+    private final AtomicBoolean pendingWatchChanges = new AtomicBoolean();
+    // Namespaces per instance whose synced informer is the source of truth for their rows
+    private final Map<String, Set<String>> watchedNamespacesByInstance = new ConcurrentHashMap<>();
+    // Namespaces per instance with a metrics refresh of their own, which then is where their usage history is sampled
+    private final Map<String, Set<String>> metricsScheduledNamespacesByInstance = new ConcurrentHashMap<>();
+    // When each instance last returned data (OK or PARTIAL); read by the health indicator and the data-age gauges
+    private final Map<String, Instant> lastFetchedAtByInstance = new ConcurrentHashMap<>();
+    private final List<Consumer<PodSnapshot>> publishListeners = new CopyOnWriteArrayList<>();
 
-    public DashboardDataService(OpenShiftProperties openShiftProperties, OpenShiftClientService openShiftClientService) {
-        this.openShiftProperties = openShiftProperties;
+    public DashboardDataService(OpenShiftProperties openShiftProperties, OpenShiftClientService openShiftClientService,
+                                UsageHistoryStore usageHistoryStore, RefreshMetrics refreshMetrics) {
         this.openShiftClientService = openShiftClientService;
+        this.usageHistoryStore = usageHistoryStore;
+        this.instanceExecutor = Executors.newFixedThreadPool(Math.max(1, openShiftProperties.getMaxParallelInstances()),
+                new CustomizableThreadFactory("instance-refresh-"));
+        this.usageExecutor = Executors.newFixedThreadPool(Math.max(1, openShiftProperties.getMaxParallelInstances()),
+                new CustomizableThreadFactory("usage-refresh-"));
+        refreshMetrics.registerSnapshotGauges(() -> snapshot);
+        if (openShiftProperties.getInstances() != null) {
+            openShiftProperties.getInstances().stream().filter(instance -> instance.getName() != null).forEach(instance ->
+                    refreshMetrics.registerInstanceDataAgeGauge(instance.getName(), () -> lastFetchedAtByInstance.get(instance.getName())));
+        }
     }
 
-    public void refreshAllData() {
-        logger.info("Starting data refresh from all OpenShift instances...");
-        List<PodUIDetail> allPodDetails = new ArrayList<>();
-        if (openShiftProperties.getInstances() == null || openShiftProperties.getInstances().isEmpty()) {
-            logger.warn("No OpenShift instances configured. Skipping data refresh.");
-            cachedPodDetails.clear();
-            return;
+    @PreDestroy
+    public void shutdown() {
+        instanceExecutor.shutdownNow();
+        usageExecutor.shutdownNow();
+    }
+
+    /**
+     * Fetches one instance, or only {@code namespaces} of it when non-null, and merges the result into the cache.
+     * Does not publish; call {@link #publishCache()} when the rows should become visible. Blocks for at most the
+     * instance's refreshTimeoutSeconds once the fetch has started. Not safe to run twice for the same instance at
+     * once; {@link RefreshCoordinator} serializes refreshes per instance.
+     */
+    public InstanceRefreshResult refreshInstance(OpenShiftInstanceProperties instanceConfig, List<String> namespaces) {
+        long startedAtMillis = System.currentTimeMillis();
+        List<String> fetchedNamespaces = namespaces != null ? namespaces : instanceConfig.getNamespaces();
+        InstancePodDetails fetched = null;
+        String failureMessage = null;
+        try {
+            fetched = runWithTimeout(instanceExecutor, () -> openShiftClientService.fetchPodDetailsForInstance(instanceConfig, fetchedNamespaces),
+                    instanceConfig.getRefreshTimeoutSeconds());
+        } catch (TimeoutException e) {
+            failureMessage = "Timed out after " + instanceConfig.getRefreshTimeoutSeconds() + "s";
+            logger.warn("Instance {} did not finish within {}s. Keeping its previous data.", instanceConfig.getName(), instanceConfig.getRefreshTimeoutSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failureMessage = "Refresh interrupted";
+        } catch (ExecutionException e) {
+            failureMessage = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            logger.error("Error fetching data for instance {}: {}", instanceConfig.getName(), failureMessage, e.getCause());
+        }
+
+        if (fetched != null && !fetched.isConnectionFailed()) {
+            // One sample per usage update: here only for namespaces whose usage comes with the inventory alone
+            Set<String> metricsScheduled = metricsScheduledNamespacesByInstance.getOrDefault(instanceConfig.getName(), Collections.emptySet());
+            usageHistoryStore.record(fetched.getPodDetails().stream().filter(podDetail -> !metricsScheduled.contains(podDetail.getNamespace())).toList(),
+                    System.currentTimeMillis());
+        }
+        InstanceRefreshResult instanceResult = mergeInstanceResult(instanceConfig, fetched, failureMessage,
+                System.currentTimeMillis() - startedAtMillis);
+        Map<String, PodRecord> instancePods = applyFetchedRows(instanceConfig.getName(), namespaces, fetched);
+        instanceResult.setPodCount(instancePods.size());
+        // Namespaces may be on different cadences, so any successful fetch shows the instance is reachable
+        if (instanceResult.getStatus() != InstanceRefreshStatus.STALE) {
+            lastFetchedAtByInstance.put(instanceConfig.getName(), Instant.now());
+        }
+        logger.info("Instance {}{} refresh {}: {} pod details", instanceConfig.getName(), namespaces != null ? " (namespaces " + namespaces + ")" : "",
+                instanceResult.getStatus(), instancePods.size());
+        return instanceResult;
+    }
+
+    /**
+     * Runs the task on the executor and waits for its result. The timeout starts once the task is running, so time
+     * spent queued behind other instances (the pool is bounded by maxParallelInstances) does not count against it.
+     * The task is cancelled if it times out or the caller is interrupted.
+     */
+    private static <T> T runWithTimeout(ExecutorService executor, Callable<T> task, long timeoutSeconds)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<T> future = executor.submit(() -> {
+            started.countDown();
+            return task.call();
+        });
+        try {
+            started.await();
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException | InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Metrics-only refresh of some namespaces of an instance: fetches current usage and applies it to the cached rows
+     * without listing pods, records the samples in the usage history and publishes if any value changed. Pods the
+     * inventory has not listed yet get their usage with the next refresh that lists them. Blocks for at most the
+     * instance's refreshTimeoutSeconds once the fetch has started.
+     *
+     * @return false if nothing could be fetched (instance unreachable or too slow, or every metrics call failed)
+     */
+    public boolean refreshUsage(OpenShiftInstanceProperties instanceConfig, List<String> namespaces) {
+        InstanceUsage usage;
+        try {
+            usage = runWithTimeout(usageExecutor, () -> openShiftClientService.fetchUsageForInstance(instanceConfig, namespaces),
+                    instanceConfig.getRefreshTimeoutSeconds());
+        } catch (TimeoutException e) {
+            logger.warn("Usage refresh of instance {} did not finish within {}s.", instanceConfig.getName(), instanceConfig.getRefreshTimeoutSeconds());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            logger.error("Error fetching usage for instance {}: {}", instanceConfig.getName(), e.getMessage(), e.getCause());
+            return false;
+        }
+        Map<String, PodRecord> instancePods = cachedPodDetailsByInstance.get(instanceConfig.getName());
+        if (instancePods == null || (usage.isConnectionFailed() && usage.getFailedNamespaces().isEmpty())) {
+            return !usage.isConnectionFailed();
+        }
+        List<PodRecord> sampled = new ArrayList<>();
+        int changed = 0;
+        for (PodRecord pod : instancePods.values()) {
+            PodRecord updated = usage.applyTo(pod);
+            if (updated == pod) {
+                continue;
+            }
+            sampled.add(updated);
+            if (!updated.equals(pod) && instancePods.replace(pod.getKey(), pod, updated)) { // Lost to a concurrent refresh otherwise, which has fresher rows
+                changed++;
+            }
         }
+        usageHistoryStore.record(sampled, System.currentTimeMillis());
+        if (changed > 0) {
+            PodSnapshot published = publishCache();
+            logger.debug("Instance {} usage refresh of {}: {} pods changed. Total pod details cached: {}",
+                    instanceConfig.getName(), namespaces, changed, published.size());
+        }
+        return !usage.isConnectionFailed();
+    }
 
-        for (OpenShiftInstanceProperties instanceConfig : openShiftProperties.getInstances()) {
-            logger.info("Fetching data from instance: {}", instanceConfig.getName());
-            try {
-                List<PodUIDetail> instancePodDetails = openShiftClientService.fetchPodDetailsForInstance(instanceConfig);
-                allPodDetails.addAll(instancePodDetails);
-                logger.info("Fetched {} pod details from instance: {}", instancePodDetails.size(), instanceConfig.getName());
-            } catch (Exception e) {
-                logger.error("Error fetching data for instance {}: {}", instanceConfig.getName(), e.getMessage(), e);
+    /**
+     * Seeds the cache from a persisted snapshot at startup. Rows arrive marked stale and only fill instances that
+     * are still configured and have no live data yet; each instance's first refresh replaces them.
+     */
+    public void restore(List<SnapshotStore.PersistedInstance> persistedInstances, Collection<String> configuredInstanceNames) {
+        int restored = 0;
+        for (SnapshotStore.PersistedInstance persisted : persistedInstances) {
+            if (!configuredInstanceNames.contains(persisted.name())
+                    || cachedPodDetailsByInstance.putIfAbsent(persisted.name(), indexByUid(persisted.pods())) != null) {
+                continue;
             }
+            if (persisted.lastFetchedAt() != null) {
+                lastFetchedAtByInstance.putIfAbsent(persisted.name(), persisted.lastFetchedAt()); // The data really is that old
+            }
+            restored += persisted.pods().size();
+        }
+        if (restored > 0) {
+            PodSnapshot published = publishCache();
+            logger.info("Restored {} pod details from the persisted snapshot (marked stale until refreshed). Total cached: {}",
+                    restored, published.size());
         }
+    }
+
+    // Current cache contents per instance, as written to the persisted snapshot. Taken under the publish lock and
+    // numbered in that order, so a higher export version never holds older rows than a lower one.
+    public synchronized SnapshotStore.CacheExport exportCache() {
+        List<SnapshotStore.PersistedInstance> instances = new ArrayList<>();
+        cachedPodDetailsByInstance.forEach((instanceName, instancePods) -> instances.add(
+                new SnapshotStore.PersistedInstance(instanceName, lastFetchedAtByInstance.get(instanceName), new ArrayList<>(instancePods.values()))));
+        return new SnapshotStore.CacheExport(exportVersion.incrementAndGet(), instances);
+    }
+
+    // Drops cached rows of instances that are no longer configured
+    public void retainInstances(Collection<String> instanceNames) {
+        cachedPodDetailsByInstance.keySet().retainAll(instanceNames);
+    }
+
+    private InstanceRefreshResult mergeInstanceResult(OpenShiftInstanceProperties instanceConfig, InstancePodDetails fetched,
+                                                      String failureMessage, long durationMillis) {
+        if (fetched == null || fetched.isConnectionFailed()) {
+            return new InstanceRefreshResult(instanceConfig.getName(), InstanceRefreshStatus.STALE, 0,
+                    fetched != null ? fetched.getFailedNamespaces() : Collections.emptyList(), durationMillis,
+                    failureMessage != null ? failureMessage : "Could not fetch data from instance");
+        }
+        if (!fetched.getFailedNamespaces().isEmpty()) {
+            return new InstanceRefreshResult(instanceConfig.getName(), InstanceRefreshStatus.PARTIAL, 0,
+                    fetched.getFailedNamespaces(), durationMillis, "Failed namespaces: " + String.join(", ", fetched.getFailedNamespaces()));
+        }
+        return new InstanceRefreshResult(instanceConfig.getName(), InstanceRefreshStatus.OK, 0, Collections.emptyList(), durationMillis, null);
+    }
+
+    /**
+     * Applies what was fetched to the instance's cached rows in place. Rows are kept for anything that failed (the
+     * whole instance if nothing came back, otherwise just the failed namespaces), for namespaces outside a partial
+     * refresh, and for namespaces a synced informer keeps current: the watch has already applied every change there,
+     * possibly newer than this list, so those rows only take the list's usage figures. Updating in place rather than
+     * swapping in a new map means watch events arriving during the refresh are not lost.
+     */
+    private Map<String, PodRecord> applyFetchedRows(String instanceName, List<String> refreshedNamespaces, InstancePodDetails fetched) {
+        Map<String, PodRecord> instancePods = cachedPodDetailsByInstance.computeIfAbsent(instanceName, name -> new ConcurrentHashMap<>());
+        if (fetched == null || fetched.isConnectionFailed()) {
+            return instancePods;
+        }
+        Set<String> failedNamespaces = new HashSet<>(fetched.getFailedNamespaces());
+        Set<String> watchedNamespaces = watchedNamespacesByInstance.getOrDefault(instanceName, Collections.emptySet());
+        Set<String> fetchedKeys = new HashSet<>();
+        for (PodRecord podDetail : fetched.getPodDetails()) {
+            fetchedKeys.add(podDetail.getKey());
+            if (watchedNamespaces.contains(podDetail.getNamespace())) {
+                instancePods.computeIfPresent(podDetail.getKey(), (key, current) ->
+                        current.withUsage(podDetail.getCpuUsageMillis(), podDetail.getMemoryUsageBytes()));
+            } else {
+                instancePods.put(podDetail.getKey(), podDetail);
+            }
+        }
+        instancePods.values().removeIf(podDetail -> !fetchedKeys.contains(podDetail.getKey())
+                && (refreshedNamespaces == null || refreshedNamespaces.contains(podDetail.getNamespace()))
+                && !failedNamespaces.contains(podDetail.getNamespace())
+                && !watchedNamespaces.contains(podDetail.getNamespace()));
+        return instancePods;
+    }
+
+    /**
+     * Applies an added or updated pod from a watch event. Usage figures are not part of pod events,
+     * so the last sampled values for the same UID are kept. Call {@link #publishPendingChanges()} to make it visible.
+     */
+    public void upsertPod(String instanceName, PodRecord podDetail) {
+        Map<String, PodRecord> instancePods = cachedPodDetailsByInstance.computeIfAbsent(instanceName, name -> new ConcurrentHashMap<>());
+        PodRecord previous = instancePods.get(podDetail.getKey());
+        if (previous != null) {
+            podDetail = podDetail.withUsage(previous.getCpuUsageMillis(), previous.getMemoryUsageBytes());
+        }
+        instancePods.put(podDetail.getKey(), podDetail);
+        pendingWatchChanges.set(true);
+    }
+
+    /**
+     * Hands a namespace over to its informer once it has synced: rows the informer does not know (pods deleted while
+     * the cache came from a list or the persisted snapshot) are dropped, and from then on inventory refreshes leave
+     * the namespace's rows to watch events.
+     *
+     * @param liveKeys {@link PodRecord#getKey()} of every pod in the informer's store
+     */
+    public void startWatching(String instanceName, String namespace, Set<String> liveKeys) {
+        watchedNamespacesByInstance.computeIfAbsent(instanceName, name -> ConcurrentHashMap.newKeySet()).add(namespace);
+        Map<String, PodRecord> instancePods = cachedPodDetailsByInstance.get(instanceName);
+        if (instancePods != null && instancePods.values().removeIf(podDetail ->
+                namespace.equals(podDetail.getNamespace()) && !liveKeys.contains(podDetail.getKey()))) {
+            pendingWatchChanges.set(true);
+        }
+    }
+
+    /**
+     * Sets which of the instance's namespaces have their own metrics refresh. Their usage history is sampled by
+     * {@link #refreshUsage}; the others get one sample per inventory refresh, which fetches their metrics anyway.
+     */
+    public void setMetricsScheduledNamespaces(String instanceName, Collection<String> namespaces) {
+        metricsScheduledNamespacesByInstance.put(instanceName, Set.copyOf(namespaces));
+    }
+
+    // The namespace's informer has stopped; inventory refreshes own its rows again until it syncs anew
+    public void stopWatching(String instanceName, String namespace) {
+        Set<String> watchedNamespaces = watchedNamespacesByInstance.get(instanceName);
+        if (watchedNamespaces != null) {
+            watchedNamespaces.remove(namespace);
+        }
+    }
+
+    public void removePod(String instanceName, String namespace, String podName, String uid) {
+        Map<String, PodRecord> instancePods = cachedPodDetailsByInstance.get(instanceName);
+        if (instancePods != null && instancePods.remove(uid != null ? uid : namespace + "/" + podName) != null) {
+            pendingWatchChanges.set(true);
+        }
+    }
+
+    /**
+     * Republishes the cache if watch events changed it since the last call. Events are coalesced this way
+     * so a burst of pod churn costs one rebuild rather than one per event.
+     */
+    public void publishPendingChanges() {
+        if (!pendingWatchChanges.get()) {
+            return;
+        }
+        PodSnapshot published = publishCache();
+        logger.debug("Published watch changes. Total pod details cached: {}", published.size());
+    }
+
+    /**
+     * Publishes everything currently cached (refreshed rows and watch changes alike) as a new snapshot. Rows are
+     * collected under the same lock that assigns versions, so a later version always reflects the cache at a later
+     * moment and concurrent publishers (refresh jobs, metrics refreshes, watch events) can't swap in older rows.
+     */
+    public synchronized PodSnapshot publishCache() {
+        pendingWatchChanges.set(false);
+        List<PodRecord> allPodDetails = new ArrayList<>();
+        cachedPodDetailsByInstance.values().forEach(instancePods -> allPodDetails.addAll(instancePods.values()));
+        snapshot = new PodSnapshot(snapshotVersion.incrementAndGet(), Instant.now(), allPodDetails);
+        usageHistoryStore.retainOnly(allPodDetails.stream().map(PodRecord::getUid).filter(Objects::nonNull).collect(Collectors.toSet()));
+        publishListeners.forEach(listener -> listener.accept(snapshot));
+        return snapshot;
+    }
+
+    private static Map<String, PodRecord> indexByUid(List<PodRecord> podDetails) {
+        Map<String, PodRecord> byUid = new ConcurrentHashMap<>(Math.max(16, podDetails.size() * 2));
+        podDetails.forEach(podDetail -> byUid.put(podDetail.getKey(), podDetail));
+        return byUid;
+    }
+
+    // Null until the instance has returned data at least once
+    public Instant getLastFetchedAt(String instanceName) {
+        return lastFetchedAtByInstance.get(instanceName);
+    }
 
-        cachedPodDetails.clear();
-        cachedPodDetails.addAll(allPodDetails);
-        logger.info("Data refresh completed. Total pod details cached: {}", cachedPodDetails.size());
+    /**
+     * Registers a callback for every newly published snapshot, called in publish order on the publishing thread.
+     * Listeners must hand off any real work; publishing waits for them.
+     */
+    public void addPublishListener(Consumer<PodSnapshot> listener) {
+        publishListeners.add(listener);
     }
 
-    public List<PodUIDetail> getAllPodDetails() {
-        if (cachedPodDetails.isEmpty()) {
+    public PodSnapshot getSnapshot() {
+        PodSnapshot current = snapshot;
+        if (current.size() == 0) {
             // Optionally trigger a refresh if cache is empty and accessed for the first time
             // refreshAllData(); // Be careful with this in a web context to avoid long initial load times
-            logger.info("Cache is currently empty. A scheduled refresh should populate it.");
+            logger.debug("Cache is currently empty. A scheduled refresh should populate it.");
         }
-        return Collections.unmodifiableList(new ArrayList<>(cachedPodDetails)); // Return a copy
+        return current;
     }
 }
\ No newline at end of file
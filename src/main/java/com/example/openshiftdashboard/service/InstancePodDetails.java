@@ -0,0 +1,38 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of fetching one instance: the mapped pods plus which namespaces could not be fetched.
+ * {@code connectionFailed} means nothing could be fetched from the instance at all.
+ */
+public class InstancePodDetails {
+    private final List<PodRecord> podDetails;
+    private final List<String> failedNamespaces;
+    private final boolean connectionFailed;
+
+    public InstancePodDetails(List<PodRecord> podDetails, List<String> failedNamespaces, boolean connectionFailed) {
+        this.podDetails = podDetails;
+        this.failedNamespaces = failedNamespaces;
+        this.connectionFailed = connectionFailed;
+    }
+
+    static InstancePodDetails failed() {
+        return new InstancePodDetails(Collections.emptyList(), Collections.emptyList(), true);
+    }
+
+    public List<PodRecord> getPodDetails() {
+        return podDetails;
+    }
+
+    public List<String> getFailedNamespaces() {
+        return failedNamespaces;
+    }
+
+    public boolean isConnectionFailed() {
+        return connectionFailed;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.model.ResourceQuantities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a metrics-only refresh of some namespaces of one instance: usage per pod name for each namespace,
+ * or {@code null} for a namespace whose metrics call failed. {@code connectionFailed} means the instance could not
+ * be reached at all.
+ */
+public class InstanceUsage {
+    private final Map<String, Map<String, long[]>> usageByNamespace; // Namespace -> pod name -> {cpuMillicores, memoryBytes}
+    private final boolean connectionFailed;
+
+    public InstanceUsage(Map<String, Map<String, long[]>> usageByNamespace, boolean connectionFailed) {
+        this.usageByNamespace = usageByNamespace;
+        this.connectionFailed = connectionFailed;
+    }
+
+    static InstanceUsage failed() {
+        return new InstanceUsage(Collections.emptyMap(), true);
+    }
+
+    public boolean isConnectionFailed() {
+        return connectionFailed;
+    }
+
+    public List<String> getFailedNamespaces() {
+        List<String> failedNamespaces = new ArrayList<>();
+        usageByNamespace.forEach((namespace, usage) -> {
+            if (usage == null) {
+                failedNamespaces.add(namespace);
+            }
+        });
+        return failedNamespaces;
+    }
+
+    public boolean covers(String namespace) {
+        return usageByNamespace.containsKey(namespace);
+    }
+
+    /**
+     * Returns the pod with this sample applied, using the same placeholders as a full refresh: "Metrics NA" if its
+     * namespace's metrics call failed, "Not Reported" if the metrics-server has no entry for it. Pods of namespaces
+     * outside this refresh are returned unchanged.
+     */
+    public PodRecord applyTo(PodRecord pod) {
+        if (!covers(pod.getNamespace())) {
+            return pod;
+        }
+        Map<String, long[]> namespaceUsage = usageByNamespace.get(pod.getNamespace());
+        if (namespaceUsage == null) {
+            return pod.withUsage(ResourceQuantities.METRICS_UNAVAILABLE, ResourceQuantities.METRICS_UNAVAILABLE);
+        }
+        long[] usage = namespaceUsage.get(pod.getPodName());
+        return usage != null ? pod.withUsage(usage[0], usage[1])
+                : pod.withUsage(ResourceQuantities.NOT_REPORTED, ResourceQuantities.NOT_REPORTED);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Holds one long-lived KubernetesClient per configured instance so refreshes reuse its HTTP connection
+ * pool, TLS sessions and (for username/password) the exchanged token. A client is rebuilt only when the
+ * instance's connection settings change or after repeated authentication failures, and all clients are
+ * closed with the application context. A replaced client is closed only after the instance's refresh timeout, so
+ * calls already in flight on it can finish; listeners are told right away so long-lived users (informers) move over.
+ */
+@Component
+public class KubernetesClientRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(KubernetesClientRegistry.class);
+
+    private final OpenShiftProperties openShiftProperties;
+    private final Map<String, ClientEntry> clientsByInstance = new ConcurrentHashMap<>();
+    // Replaced clients waiting out their grace period; closed early if the application stops first
+    private final Set<KubernetesClient> retiredClients = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService retiredClientCloser = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("client-close-"));
+    private final List<Consumer<String>> clientReplacedListeners = new CopyOnWriteArrayList<>();
+
+    public KubernetesClientRegistry(OpenShiftProperties openShiftProperties) {
+        this.openShiftProperties = openShiftProperties;
+    }
+
+    public KubernetesClient getClient(OpenShiftInstanceProperties instanceProperties) {
+        ConnectionSettings settings = ConnectionSettings.of(instanceProperties);
+        ClientEntry[] replaced = new ClientEntry[1];
+        ClientEntry entry = clientsByInstance.compute(instanceProperties.getName(), (name, existing) -> {
+            if (existing != null && existing.settings.equals(settings)
+                    && existing.consecutiveAuthFailures.get() < openShiftProperties.getClientRebuildAfterAuthFailures()) {
+                return existing;
+            }
+            if (existing != null) {
+                logger.info("Rebuilding Kubernetes client for instance: {} ({})", name,
+                        existing.settings.equals(settings) ? "repeated authentication failures" : "connection settings changed");
+            }
+            replaced[0] = existing;
+            return new ClientEntry(settings, createClient(instanceProperties));
+        });
+        if (replaced[0] != null) {
+            // Outside compute: closing can block on the connection pool, and listeners may call back into the registry
+            retire(instanceProperties.getName(), replaced[0].client, instanceProperties.getRefreshTimeoutSeconds());
+            clientReplacedListeners.forEach(listener -> listener.accept(instanceProperties.getName()));
+        }
+        return entry.client;
+    }
+
+    /**
+     * Registers a callback for every rebuilt client, called with the instance name once the new client is in place.
+     * Anything holding on to the old client (watches, informers) should restart against {@link #getClient}.
+     */
+    public void addClientReplacedListener(Consumer<String> listener) {
+        clientReplacedListeners.add(listener);
+    }
+
+    private void retire(String instanceName, KubernetesClient client, long gracePeriodSeconds) {
+        retiredClients.add(client);
+        try {
+            retiredClientCloser.schedule(() -> {
+                if (retiredClients.remove(client)) {
+                    closeQuietly(instanceName, client);
+                }
+            }, Math.max(1, gracePeriodSeconds), TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            retiredClients.remove(client); // Shutting down
+            closeQuietly(instanceName, client);
+        }
+    }
+
+    /**
+     * Records a 401 from the instance; after {@code clientRebuildAfterAuthFailures} in a row the client is rebuilt
+     * on next use, which forces a fresh login/token exchange.
+     */
+    public void recordAuthFailure(String instanceName) {
+        ClientEntry entry = clientsByInstance.get(instanceName);
+        if (entry != null) {
+            int failures = entry.consecutiveAuthFailures.incrementAndGet();
+            logger.warn("Authentication failure {} in a row for instance: {}", failures, instanceName);
+        }
+    }
+
+    public void recordSuccess(String instanceName) {
+        ClientEntry entry = clientsByInstance.get(instanceName);
+        if (entry != null) {
+            entry.consecutiveAuthFailures.set(0);
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        retiredClientCloser.shutdownNow();
+        retiredClients.forEach(client -> closeQuietly("(replaced)", client));
+        retiredClients.clear();
+        clientsByInstance.forEach((name, entry) -> closeQuietly(name, entry.client));
+        clientsByInstance.clear();
+    }
+
+    private KubernetesClient createClient(OpenShiftInstanceProperties instanceProperties) {
+        ConfigBuilder configBuilder = new ConfigBuilder().withMasterUrl(instanceProperties.getUrl());
+
+        // ** MODIFIED AUTHENTICATION LOGIC: Prioritize Username/Password **
+        if (StringUtils.hasText(instanceProperties.getUsername()) && StringUtils.hasText(instanceProperties.getPassword())) {
+            configBuilder.withUsername(instanceProperties.getUsername());
+            configBuilder.withPassword(instanceProperties.getPassword());
+            logger.debug("Using username/password authentication for instance: {}", instanceProperties.getName());
+            // Note: Direct basic auth against K8s API might require specific cluster configuration.
+            // Often, username/password is used in an OAuth flow to obtain a token first.
+            // This setup assumes the Fabric8 client + cluster config supports this direct method.
+        } else if (StringUtils.hasText(instanceProperties.getToken())) {
+            configBuilder.withOauthToken(instanceProperties.getToken());
+            logger.debug("Using token authentication for instance: {} (username/password not provided)", instanceProperties.getName());
+        } else {
+            logger.warn("No authentication method (username/password or token) configured for instance: {}. Attempting anonymous connection.", instanceProperties.getName());
+            // Anonymous connection will likely fail on most secure clusters.
+        }
+
+        // WARNING: Insecure for production. Configure proper CA certificates for the Kubernetes client.
+        // This should ideally be configurable per instance or globally with proper truststore setup.
+        configBuilder.withTrustCerts(true);
+        logger.debug("Trusting all certificates for instance: {} (Development setting - ensure this is acceptable for your environment)", instanceProperties.getName());
+
+        Config config = configBuilder.build();
+        logger.info("Creating Kubernetes client for instance: {} at URL: {}", instanceProperties.getName(), instanceProperties.getUrl());
+        return new KubernetesClientBuilder().withConfig(config).build();
+    }
+
+    private void closeQuietly(String instanceName, KubernetesClient client) {
+        try {
+            client.close();
+        } catch (Exception e) {
+            logger.warn("Error closing Kubernetes client for instance {}: {}", instanceName, e.getMessage());
+        }
+    }
+
+    private static final class ClientEntry {
+        private final ConnectionSettings settings;
+        private final KubernetesClient client;
+        private final AtomicInteger consecutiveAuthFailures = new AtomicInteger();
+
+        private ClientEntry(ConnectionSettings settings, KubernetesClient client) {
+            this.settings = settings;
+            this.client = client;
+        }
+    }
+
+    // The subset of instance properties that requires a new client when it changes
+    private record ConnectionSettings(String url, String username, String password, String token) {
+        static ConnectionSettings of(OpenShiftInstanceProperties instanceProperties) {
+            return new ConnectionSettings(instanceProperties.getUrl(), instanceProperties.getUsername(),
+                    instanceProperties.getPassword(), instanceProperties.getToken());
+        }
+
+        @Override
+        public String toString() {
+            return "ConnectionSettings[url=" + url + ", username=" + username + ", hasPassword=" + (password != null)
+                    + ", hasToken=" + (token != null) + "]"; // Never log credentials
+        }
+    }
+}
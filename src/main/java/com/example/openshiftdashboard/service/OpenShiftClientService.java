@@ -1,235 +1,358 @@
 package com.example.openshiftdashboard.service;
 
 import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
-import com.example.openshiftdashboard.dto.PodUIDetail;
-import io.fabric8.kubernetes.api.model.Container;
+import com.example.openshiftdashboard.model.PodRecord;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetrics;
-import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetricsList; // Added import for PodMetricsList
-import io.fabric8.kubernetes.client.Config;
-import io.fabric8.kubernetes.client.ConfigBuilder;
-import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetricsList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 public class OpenShiftClientService {
 
     private static final Logger logger = LoggerFactory.getLogger(OpenShiftClientService.class);
-    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(ZoneId.systemDefault());
 
-    public List<PodUIDetail> fetchPodDetailsForInstance(OpenShiftInstanceProperties instanceProperties) {
+    private static final int HTTP_UNAUTHORIZED = 401;
+    private static final int HTTP_GONE = 410;
+    private static final int MAX_LIST_RESTARTS = 1;
+    // metrics.k8s.io as a generic resource, for metrics calls that need a full label selector
+    private static final ResourceDefinitionContext POD_METRICS = new ResourceDefinitionContext.Builder()
+            .withGroup("metrics.k8s.io").withVersion("v1beta1").withKind("PodMetrics").withPlural("pods").withNamespaced(true).build();
+
+    private final KubernetesClientRegistry kubernetesClientRegistry;
+    private final PodRecordMapper podRecordMapper;
+    private final RefreshMetrics refreshMetrics;
+    // Shared by all instances; per-cluster concurrency is bounded by OpenShiftInstanceProperties.maxConcurrentNamespaces
+    private final ExecutorService namespaceExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("namespace-fetch-"));
+
+    public OpenShiftClientService(KubernetesClientRegistry kubernetesClientRegistry, PodRecordMapper podRecordMapper,
+                                  RefreshMetrics refreshMetrics) {
+        this.kubernetesClientRegistry = kubernetesClientRegistry;
+        this.podRecordMapper = podRecordMapper;
+        this.refreshMetrics = refreshMetrics;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        namespaceExecutor.shutdownNow();
+    }
+
+    public InstancePodDetails fetchPodDetailsForInstance(OpenShiftInstanceProperties instanceProperties) {
+        return fetchPodDetailsForInstance(instanceProperties, instanceProperties != null ? instanceProperties.getNamespaces() : null);
+    }
+
+    /**
+     * Fetches only the given namespaces of the instance (a subset of its configured ones, or all of them).
+     */
+    public InstancePodDetails fetchPodDetailsForInstance(OpenShiftInstanceProperties instanceProperties, List<String> namespaces) {
         if (instanceProperties == null) {
             logger.warn("OpenShift instance properties are null. Skipping.");
-            return Collections.emptyList();
-        }
-        List<PodUIDetail> podDetailsList = new ArrayList<>();
-        ConfigBuilder configBuilder = new ConfigBuilder().withMasterUrl(instanceProperties.getUrl());
-
-        // ** MODIFIED AUTHENTICATION LOGIC: Prioritize Username/Password **
-        if (StringUtils.hasText(instanceProperties.getUsername()) && StringUtils.hasText(instanceProperties.getPassword())) {
-            configBuilder.withUsername(instanceProperties.getUsername());
-            configBuilder.withPassword(instanceProperties.getPassword());
-            logger.debug("Using username/password authentication for instance: {}", instanceProperties.getName());
-            // Note: Direct basic auth against K8s API might require specific cluster configuration.
-            // Often, username/password is used in an OAuth flow to obtain a token first.
-            // This setup assumes the Fabric8 client + cluster config supports this direct method.
-        } else if (StringUtils.hasText(instanceProperties.getToken())) {
-            configBuilder.withOauthToken(instanceProperties.getToken());
-            logger.debug("Using token authentication for instance: {} (username/password not provided)", instanceProperties.getName());
-        } else {
-            logger.warn("No authentication method (username/password or token) configured for instance: {}. Attempting anonymous connection.", instanceProperties.getName());
-            // Anonymous connection will likely fail on most secure clusters.
+            return InstancePodDetails.failed();
         }
+        // Timed here rather than by the caller, which may be waiting on other instances first
+        long startNanos = System.nanoTime();
+        InstancePodDetails instancePodDetails = fetchInstance(instanceProperties, namespaces);
+        String outcome = instancePodDetails.isConnectionFailed() ? RefreshMetrics.OUTCOME_FAILURE
+                : instancePodDetails.getFailedNamespaces().isEmpty() ? RefreshMetrics.OUTCOME_SUCCESS : RefreshMetrics.OUTCOME_PARTIAL;
+        refreshMetrics.recordInstanceRefresh(instanceProperties.getName(), outcome, System.nanoTime() - startNanos);
+        return instancePodDetails;
+    }
 
-        // WARNING: Insecure for production. Configure proper CA certificates for the Kubernetes client.
-        // This should ideally be configurable per instance or globally with proper truststore setup.
-        configBuilder.withTrustCerts(true);
-        logger.debug("Trusting all certificates for instance: {} (Development setting - ensure this is acceptable for your environment)", instanceProperties.getName());
-
-
-        Config config = configBuilder.build();
+    private InstancePodDetails fetchInstance(OpenShiftInstanceProperties instanceProperties, List<String> namespaces) {
+        List<PodRecord> podDetailsList = new ArrayList<>();
+        List<String> failedNamespaces = new ArrayList<>();
+        AtomicBoolean authFailed = new AtomicBoolean();
 
-        try (KubernetesClient client = new DefaultKubernetesClient(config)) {
-            logger.info("Attempting to connect to OpenShift instance: {} at URL: {}", instanceProperties.getName(), instanceProperties.getUrl());
+        try {
+            KubernetesClient client = kubernetesClientRegistry.getClient(instanceProperties);
+            logger.info("Fetching from OpenShift instance: {} at URL: {}", instanceProperties.getName(), instanceProperties.getUrl());
 
-            if (instanceProperties.getNamespaces() == null || instanceProperties.getNamespaces().isEmpty()) {
+            if (namespaces == null || namespaces.isEmpty()) {
                 logger.warn("No namespaces configured for instance: {}", instanceProperties.getName());
-                return Collections.emptyList();
+                return new InstancePodDetails(Collections.emptyList(), Collections.emptyList(), false);
             }
 
-            for (String namespace : instanceProperties.getNamespaces()) {
-                if (!StringUtils.hasText(namespace)) {
-                    logger.warn("Empty namespace string found for instance: {}", instanceProperties.getName());
-                    continue;
+            // Namespaces run on the shared executor, but at most maxConcurrentNamespaces at a time per cluster.
+            // Permits are taken on this (the instance's) thread so pool threads never block waiting for them.
+            Semaphore namespacePermits = new Semaphore(Math.max(1, instanceProperties.getMaxConcurrentNamespaces()));
+            Map<String, Future<List<PodRecord>>> namespaceFutures = new LinkedHashMap<>();
+            try {
+                for (String namespace : namespaces) {
+                    if (!StringUtils.hasText(namespace)) {
+                        logger.warn("Empty namespace string found for instance: {}", instanceProperties.getName());
+                        continue;
+                    }
+                    namespacePermits.acquire();
+                    try {
+                        namespaceFutures.put(namespace, namespaceExecutor.submit(() -> {
+                            try {
+                                return fetchPodDetailsForNamespace(client, instanceProperties, namespace, authFailed);
+                            } finally {
+                                namespacePermits.release();
+                            }
+                        }));
+                    } catch (RejectedExecutionException e) {
+                        namespacePermits.release();
+                        throw e;
+                    }
                 }
-                try {
-                    logger.debug("Fetching pods from namespace '{}' in instance '{}'", namespace, instanceProperties.getName());
-                    List<Pod> pods = client.pods().inNamespace(namespace).list().getItems();
-                    logger.info("Found {} pods in namespace '{}' in instance '{}'", pods.size(), namespace, instanceProperties.getName());
-                    for (Pod pod : pods) {
-                        podDetailsList.add(mapPodToPodUIDetail(pod, client, instanceProperties.getDataCenter(), namespace));
+                for (Map.Entry<String, Future<List<PodRecord>>> entry : namespaceFutures.entrySet()) {
+                    List<PodRecord> namespacePodDetails = entry.getValue().get();
+                    if (namespacePodDetails != null) {
+                        podDetailsList.addAll(namespacePodDetails);
+                    } else {
+                        failedNamespaces.add(entry.getKey());
                     }
-                } catch (KubernetesClientException e) {
-                    logger.error("Kubernetes API error fetching pods from namespace '{}' in instance '{}'. Status: {}. Message: {}",
-                            namespace, instanceProperties.getName(), e.getStatus(), e.getMessage());
-                } catch (Exception e) {
-                    logger.error("Generic error fetching pods from namespace '{}' in instance '{}': {}",
-                            namespace, instanceProperties.getName(), e.getMessage(), e);
                 }
+            } catch (InterruptedException e) {
+                // The instance timed out in DashboardDataService; stop whatever is still running against this cluster.
+                Thread.currentThread().interrupt();
+                namespaceFutures.values().forEach(future -> future.cancel(true));
+                logger.warn("Fetching instance '{}' was interrupted; remaining namespaces were cancelled.", instanceProperties.getName());
+                return InstancePodDetails.failed();
+            } catch (ExecutionException e) {
+                // fetchPodDetailsForNamespace handles its own errors, so this is unexpected.
+                namespaceFutures.values().forEach(future -> future.cancel(true));
+                logger.error("Unexpected error fetching namespaces for instance '{}': {}", instanceProperties.getName(), e.getMessage(), e);
+                return InstancePodDetails.failed();
             }
         } catch (KubernetesClientException e) {
             // This often indicates auth failure if credentials are wrong or not permitted for API access.
+            if (e.getCode() == HTTP_UNAUTHORIZED) {
+                kubernetesClientRegistry.recordAuthFailure(instanceProperties.getName());
+            }
+            refreshMetrics.recordApiError(instanceProperties.getName(), "connect", e.getCode());
             logger.error("Failed to connect to or process OpenShift instance '{}' (Kubernetes API error). Status: {}. Message: {}",
                     instanceProperties.getName(), e.getStatus(), e.getMessage());
+            return InstancePodDetails.failed();
         } catch (Exception e) {
             logger.error("Failed to connect to or process OpenShift instance '{}': {}",
                     instanceProperties.getName(), e.getMessage(), e);
+            return InstancePodDetails.failed();
         }
-        return podDetailsList;
+        if (authFailed.get()) {
+            kubernetesClientRegistry.recordAuthFailure(instanceProperties.getName());
+        } else {
+            kubernetesClientRegistry.recordSuccess(instanceProperties.getName());
+        }
+        boolean everyNamespaceFailed = !failedNamespaces.isEmpty() && podDetailsList.isEmpty()
+                && failedNamespaces.size() == namespaces.stream().filter(StringUtils::hasText).count();
+        return new InstancePodDetails(podDetailsList, failedNamespaces, everyNamespaceFailed);
     }
 
-    private PodUIDetail mapPodToPodUIDetail(Pod pod, KubernetesClient client, String dataCenter, String currentNamespaceFromConfig) {
-        PodUIDetail detail = new PodUIDetail();
-        detail.setDataCenter(dataCenter != null ? dataCenter : "N/A");
-
-        String actualNamespace = pod.getMetadata().getNamespace();
-        detail.setNamespace(actualNamespace != null ? actualNamespace : currentNamespaceFromConfig);
-
-        detail.setPodName(pod.getMetadata().getName());
-        detail.setPodStatus(pod.getStatus() != null ? pod.getStatus().getPhase() : "Unknown");
-        detail.setPodIP(pod.getStatus() != null ? pod.getStatus().getPodIP() : "N/A");
-        detail.setNodeName(pod.getSpec() != null ? pod.getSpec().getNodeName() : "N/A");
-
+    /**
+     * Metrics-only refresh: one metrics-server call per namespace, no pod lists. Namespaces are fetched one after
+     * another; each is a single small call, and this keeps the usage schedule from adding bursts against the cluster.
+     */
+    public InstanceUsage fetchUsageForInstance(OpenShiftInstanceProperties instanceProperties, List<String> namespaces) {
+        KubernetesClient client;
         try {
-            if (StringUtils.hasText(pod.getMetadata().getCreationTimestamp())) {
-                detail.setCreationTimestamp(DATE_TIME_FORMATTER.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(pod.getMetadata().getCreationTimestamp())));
-            } else {
-                detail.setCreationTimestamp("N/A");
-            }
-        } catch (DateTimeParseException e) {
-            logger.warn("Could not parse creation timestamp '{}' for pod {}: {}", pod.getMetadata().getCreationTimestamp(), pod.getMetadata().getName(), e.getMessage());
-            detail.setCreationTimestamp("N/A (Parse Error)");
+            client = kubernetesClientRegistry.getClient(instanceProperties);
+        } catch (KubernetesClientException e) {
+            refreshMetrics.recordApiError(instanceProperties.getName(), "connect", e.getCode());
+            logger.error("Failed to connect to OpenShift instance '{}' for a metrics refresh. Status: {}. Message: {}",
+                    instanceProperties.getName(), e.getStatus(), e.getMessage());
+            return InstanceUsage.failed();
         }
-        detail.setUid(pod.getMetadata().getUid());
-
-
-        Map<String, String> labels = pod.getMetadata().getLabels() != null ? pod.getMetadata().getLabels() : Collections.emptyMap();
-        String appName = labels.getOrDefault("app.kubernetes.io/name", labels.get("app"));
-        if (appName == null && pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
-            String ownerName = pod.getMetadata().getOwnerReferences().get(0).getName();
-            if (ownerName != null) {
-                appName = ownerName.replaceFirst("-[a-zA-Z0-9]{8,10}$", "").replaceFirst("-[0-9]+$", "");
+        Map<String, Map<String, long[]>> usageByNamespace = new HashMap<>();
+        for (String namespace : namespaces) {
+            if (!StringUtils.hasText(namespace)) {
+                continue;
             }
-        }
-        detail.setApplicationName(appName != null ? appName : "N/A");
-
-
-        String appVersion = labels.getOrDefault("app.kubernetes.io/version", labels.get("version"));
-        String dockerImage = "N/A";
-        if (pod.getSpec() != null && pod.getSpec().getContainers() != null && !pod.getSpec().getContainers().isEmpty()) {
-            Container firstContainer = pod.getSpec().getContainers().get(0);
-            if (firstContainer != null) {
-                dockerImage = firstContainer.getImage();
-                detail.setDockerImage(dockerImage != null ? dockerImage : "N/A");
-                if (appVersion == null && dockerImage != null && dockerImage.contains(":")) {
-                    String tag = dockerImage.substring(dockerImage.lastIndexOf(":") + 1);
-                    if (!"latest".equalsIgnoreCase(tag) && !tag.matches("^[a-f0-9]{64}$")) {
-                        appVersion = tag;
-                    }
+            if (Thread.currentThread().isInterrupted()) {
+                return InstanceUsage.failed(); // Shutting down
+            }
+            Map<String, PodMetrics> podMetricsByName = fetchPodMetricsForNamespace(client, namespace, instanceProperties.getName(),
+                    PodSelectors.labelSelector(instanceProperties, namespace));
+            Map<String, long[]> usageByPodName = null;
+            if (podMetricsByName != null) {
+                usageByPodName = new HashMap<>(podMetricsByName.size() * 2);
+                for (Map.Entry<String, PodMetrics> entry : podMetricsByName.entrySet()) {
+                    usageByPodName.put(entry.getKey(), podRecordMapper.usageOf(entry.getValue()));
                 }
             }
+            usageByNamespace.put(namespace, usageByPodName);
         }
-        detail.setApplicationVersion(appVersion != null ? appVersion : "N/A");
+        boolean everyNamespaceFailed = !usageByNamespace.isEmpty() && usageByNamespace.values().stream().allMatch(Objects::isNull);
+        return new InstanceUsage(usageByNamespace, everyNamespaceFailed);
+    }
 
-        if ("Helm".equalsIgnoreCase(labels.get("app.kubernetes.io/managed-by"))) {
-            detail.setDeploymentType("Helm");
-            detail.setHelmChartInfo(labels.getOrDefault("helm.sh/chart", "N/A"));
-        } else {
-            detail.setDeploymentType("Manifest/Other");
-            detail.setHelmChartInfo("N/A");
+    /**
+     * Lists and maps the pods of one namespace. Returns {@code null} if the namespace could not be fetched,
+     * so the caller can keep the previous data for it.
+     */
+    private List<PodRecord> fetchPodDetailsForNamespace(KubernetesClient client, OpenShiftInstanceProperties instanceProperties,
+                                                          String namespace, AtomicBoolean authFailed) {
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            logger.debug("Fetching pods from namespace '{}' in instance '{}'", namespace, instanceProperties.getName());
+            // One namespace-wide metrics call instead of one per pod (metrics-server rate-limits us otherwise)
+            Map<String, PodMetrics> podMetricsByName = fetchPodMetricsForNamespace(client, namespace, instanceProperties.getName(),
+                    PodSelectors.labelSelector(instanceProperties, namespace));
+            List<PodRecord> namespacePodDetails = listAndMapPods(client, instanceProperties, namespace, podMetricsByName);
+            logger.info("Found {} pods in namespace '{}' in instance '{}'", namespacePodDetails.size(), namespace, instanceProperties.getName());
+            refreshMetrics.recordPodsListed(instanceProperties.getName(), namespace, namespacePodDetails.size());
+            success = true;
+            return namespacePodDetails;
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == HTTP_UNAUTHORIZED) {
+                authFailed.set(true);
+            }
+            refreshMetrics.recordApiError(instanceProperties.getName(), "list-pods", e.getCode());
+            logger.error("Kubernetes API error fetching pods from namespace '{}' in instance '{}'. Status: {}. Message: {}",
+                    namespace, instanceProperties.getName(), e.getStatus(), e.getMessage());
+        } catch (Exception e) {
+            logger.error("Generic error fetching pods from namespace '{}' in instance '{}': {}",
+                    namespace, instanceProperties.getName(), e.getMessage(), e);
+        } finally {
+            refreshMetrics.recordNamespaceRefresh(instanceProperties.getName(), namespace, success, System.nanoTime() - startNanos);
         }
+        return null;
+    }
 
-        detail.setCurrentCpuRequest("N/A");
-        detail.setCurrentMemoryRequest("N/A");
-        detail.setCurrentCpuLimit("N/A");
-        detail.setCurrentMemoryLimit("N/A");
-
-        if (pod.getSpec() != null && pod.getSpec().getContainers() != null && !pod.getSpec().getContainers().isEmpty()) {
-            Container container = pod.getSpec().getContainers().get(0);
-            if (container != null && container.getResources() != null) {
-                if (container.getResources().getRequests() != null) {
-                    detail.setCurrentCpuRequest(Optional.ofNullable(container.getResources().getRequests().get("cpu")).map(Quantity::toString).orElse("N/A"));
-                    detail.setCurrentMemoryRequest(Optional.ofNullable(container.getResources().getRequests().get("memory")).map(Quantity::toString).orElse("N/A"));
-                }
-                if (container.getResources().getLimits() != null) {
-                    detail.setCurrentCpuLimit(Optional.ofNullable(container.getResources().getLimits().get("cpu")).map(Quantity::toString).orElse("N/A"));
-                    detail.setCurrentMemoryLimit(Optional.ofNullable(container.getResources().getLimits().get("memory")).map(Quantity::toString).orElse("N/A"));
-                }
+    /**
+     * Ad-hoc drill-down: lists at most {@code limit} pods of one namespace straight from the API server, with the
+     * namespace's configured selectors ANDed with the given ones, plus one metrics call narrowed by the same label
+     * selector. Nothing is cached. API errors are rethrown; a 400 means the server rejected a selector.
+     */
+    public LivePods fetchPodsLive(OpenShiftInstanceProperties instanceProperties, String namespace,
+                                  String labelSelector, String fieldSelector, int limit) {
+        String effectiveLabelSelector = PodSelectors.combine(PodSelectors.labelSelector(instanceProperties, namespace), labelSelector);
+        String effectiveFieldSelector = PodSelectors.combine(PodSelectors.fieldSelector(instanceProperties, namespace), fieldSelector);
+        try {
+            KubernetesClient client = kubernetesClientRegistry.getClient(instanceProperties);
+            Map<String, PodMetrics> podMetricsByName = fetchPodMetricsForNamespace(client, namespace, instanceProperties.getName(), effectiveLabelSelector);
+            PodList page = client.pods().inNamespace(namespace).list(new ListOptionsBuilder()
+                    .withLimit((long) Math.max(1, limit))
+                    .withLabelSelector(effectiveLabelSelector)
+                    .withFieldSelector(effectiveFieldSelector)
+                    .build());
+            List<PodRecord> pods = new ArrayList<>(page.getItems().size());
+            for (Pod pod : page.getItems()) {
+                pods.add(podRecordMapper.map(pod, podMetricsByName, instanceProperties.getDataCenter(), namespace));
             }
+            boolean truncated = page.getMetadata() != null && StringUtils.hasText(page.getMetadata().getContinue());
+            logger.debug("Live list of namespace '{}' in instance '{}' (labels: {}, fields: {}) returned {} pods{}",
+                    namespace, instanceProperties.getName(), effectiveLabelSelector, effectiveFieldSelector, pods.size(), truncated ? " (truncated)" : "");
+            return new LivePods(pods, truncated);
+        } catch (KubernetesClientException e) {
+            refreshMetrics.recordApiError(instanceProperties.getName(), "live-list", e.getCode());
+            throw e;
         }
+    }
 
-        // ** METRICS FETCHING - ADAPTED FOR .metrics() RETURNING PodMetricsList **
-        detail.setCurrentCpuUsage("N/A");
-        detail.setCurrentMemoryUsage("N/A");
-        try {
-            var podTopOperations = client.top().pods()
-                    .inNamespace(actualNamespace) // Use actual pod namespace
-                    .withName(pod.getMetadata().getName());
-
-            PodMetricsList podMetricsList = podTopOperations.metrics(); // Assuming this returns PodMetricsList
-
-            PodMetrics podMetrics = null; // Initialize as null
-            if (podMetricsList != null && podMetricsList.getItems() != null && !podMetricsList.getItems().isEmpty()) {
-                podMetrics = podMetricsList.getItems().get(0); // Get the first item from the list
-                if (podMetricsList.getItems().size() > 1) {
-                    logger.warn("Metrics query for single pod {} in namespace {} with .withName().metrics() unexpectedly returned a list with {} items. Using the first one.",
-                            pod.getMetadata().getName(), actualNamespace, podMetricsList.getItems().size());
+    /**
+     * Lists the namespace in pages of {@code listPageSize} and maps each page as it arrives, so only one page of
+     * fabric8 Pod objects is held at a time. If the continue token expires mid-list (410 Gone) the partial result
+     * is discarded and the list restarts from the beginning, up to {@code MAX_LIST_RESTARTS} times; after that the
+     * 410 is rethrown and the namespace is treated as failed, keeping its previous data.
+     */
+    private List<PodRecord> listAndMapPods(KubernetesClient client, OpenShiftInstanceProperties instanceProperties,
+                                             String namespace, Map<String, PodMetrics> podMetricsByName) {
+        long pageSize = Math.max(1, instanceProperties.getListPageSize());
+        // Rows the selectors exclude never leave the API server
+        String labelSelector = PodSelectors.labelSelector(instanceProperties, namespace);
+        String fieldSelector = PodSelectors.fieldSelector(instanceProperties, namespace);
+        for (int attempt = 0; ; attempt++) {
+            List<PodRecord> namespacePodDetails = new ArrayList<>();
+            String continueToken = null;
+            try {
+                do {
+                    PodList page = client.pods().inNamespace(namespace)
+                            .list(new ListOptionsBuilder().withLimit(pageSize).withContinue(continueToken)
+                                    .withLabelSelector(labelSelector).withFieldSelector(fieldSelector).build());
+                    for (Pod pod : page.getItems()) {
+                        namespacePodDetails.add(podRecordMapper.map(pod, podMetricsByName, instanceProperties.getDataCenter(), namespace));
+                    }
+                    continueToken = page.getMetadata() != null ? page.getMetadata().getContinue() : null;
+                } while (StringUtils.hasText(continueToken));
+                return namespacePodDetails;
+            } catch (KubernetesClientException e) {
+                if (e.getCode() != HTTP_GONE || continueToken == null || attempt >= MAX_LIST_RESTARTS) {
+                    throw e;
                 }
+                logger.warn("Continue token expired while listing namespace '{}' in instance '{}' after {} pods. Restarting the list.",
+                        namespace, instanceProperties.getName(), namespacePodDetails.size());
             }
+        }
+    }
 
-
-            if (podMetrics != null && podMetrics.getContainers() != null && !podMetrics.getContainers().isEmpty()) {
-                io.fabric8.kubernetes.api.model.metrics.v1beta1.ContainerMetrics containerMetrics = podMetrics.getContainers().get(0);
-                if (containerMetrics != null && containerMetrics.getUsage() != null) {
-                    detail.setCurrentCpuUsage(Optional.ofNullable(containerMetrics.getUsage().get("cpu")).map(Quantity::toString).orElse("N/A"));
-                    detail.setCurrentMemoryUsage(Optional.ofNullable(containerMetrics.getUsage().get("memory")).map(Quantity::toString).orElse("N/A"));
-                }
-            } else {
-                if (podMetricsList == null || podMetricsList.getItems() == null || podMetricsList.getItems().isEmpty()) {
-                    logger.debug("No metrics list or empty metrics list returned by .metrics() for pod {} in namespace {}.", pod.getMetadata().getName(), actualNamespace);
-                } else if (podMetrics == null) {
-                    logger.warn("Metrics list was not empty, but failed to extract a PodMetrics object for pod {} in namespace {}.", pod.getMetadata().getName(), actualNamespace);
-                }
-                else {
-                    logger.debug("PodMetrics object found for pod {} in namespace {} but it has no container metrics.", pod.getMetadata().getName(), actualNamespace);
+    /**
+     * Fetches usage metrics for every pod in the namespace with a single metrics-server call.
+     * Returns a map keyed by pod name, or {@code null} if metrics could not be fetched at all
+     * (metrics-server missing, RBAC, etc.) so callers can tell "unavailable" apart from "not reported".
+     * The metrics API only understands label selectors, so a configured field selector is applied by the join on pod name.
+     */
+    private Map<String, PodMetrics> fetchPodMetricsForNamespace(KubernetesClient client, String namespace, String instanceName,
+                                                                String labelSelector) {
+        try {
+            PodMetricsList podMetricsList = listPodMetrics(client, namespace, labelSelector);
+            refreshMetrics.recordMetricsCall(instanceName, true);
+            if (podMetricsList == null || podMetricsList.getItems() == null) {
+                logger.debug("No metrics list returned for namespace '{}' in instance '{}'.", namespace, instanceName);
+                return Collections.emptyMap();
+            }
+            Map<String, PodMetrics> podMetricsByName = new HashMap<>(podMetricsList.getItems().size() * 2);
+            for (PodMetrics podMetrics : podMetricsList.getItems()) {
+                if (podMetrics != null && podMetrics.getMetadata() != null && podMetrics.getMetadata().getName() != null) {
+                    podMetricsByName.put(podMetrics.getMetadata().getName(), podMetrics);
                 }
             }
+            logger.debug("Fetched metrics for {} pods in namespace '{}' in instance '{}'", podMetricsByName.size(), namespace, instanceName);
+            return podMetricsByName;
         } catch (KubernetesClientException kce) {
-            logger.warn("Could not fetch metrics for pod {} in namespace {} (K8s client exception: {}). Status: {}. This often means metrics are not available or RBAC issues.",
-                    pod.getMetadata().getName(), actualNamespace, kce.getMessage(), kce.getStatus());
-            detail.setCurrentCpuUsage("N/A (Metrics NA)");
-            detail.setCurrentMemoryUsage("N/A (Metrics NA)");
+            refreshMetrics.recordMetricsCall(instanceName, false);
+            refreshMetrics.recordApiError(instanceName, "metrics", kce.getCode());
+            logger.warn("Could not fetch pod metrics for namespace '{}' in instance '{}' (K8s client exception: {}). Status: {}. This often means metrics are not available or RBAC issues.",
+                    namespace, instanceName, kce.getMessage(), kce.getStatus());
         } catch (Exception e) {
-            logger.error("Generic error fetching metrics for pod {} in namespace {}: {}", pod.getMetadata().getName(), actualNamespace, e.getMessage(), e);
-            detail.setCurrentCpuUsage("N/A (Error)");
-            detail.setCurrentMemoryUsage("N/A (Error)");
+            refreshMetrics.recordMetricsCall(instanceName, false);
+            logger.error("Generic error fetching pod metrics for namespace '{}' in instance '{}': {}", namespace, instanceName, e.getMessage(), e);
         }
-        return detail;
+        return null;
+    }
+
+    private static PodMetricsList listPodMetrics(KubernetesClient client, String namespace, String labelSelector) {
+        if (labelSelector == null) {
+            return client.top().pods().inNamespace(namespace).metrics();
+        }
+        // top() only takes equality labels; listing the metrics API as a generic resource sends any selector
+        GenericKubernetesResourceList metrics = client.genericKubernetesResources(POD_METRICS).inNamespace(namespace)
+                .withLabelSelector(labelSelector).list();
+        return client.getKubernetesSerialization().convertValue(metrics, PodMetricsList.class);
+    }
+
+    /**
+     * One page of a live drill-down list; {@code truncated} if the namespace has more matching pods.
+     */
+    public record LivePods(List<PodRecord> pods, boolean truncated) {
     }
 }
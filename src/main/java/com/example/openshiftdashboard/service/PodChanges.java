@@ -0,0 +1,79 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Row-level differences between two published snapshots, matched by {@link PodRecord#getKey()}. Rows carried over
+ * unchanged are usually the same instance in both snapshots, so most of them cost one identity check.
+ */
+final class PodChanges {
+
+    private final long fromVersion;
+    private final long version;
+    private final List<PodRecord> added = new ArrayList<>();
+    private final List<PodRecord[]> changed = new ArrayList<>(); // {before, after}
+    private final List<PodRecord[]> usageChanged = new ArrayList<>(); // {before, after}, differing only in usage
+    private final List<PodRecord> removed = new ArrayList<>();
+
+    private PodChanges(long fromVersion, long version) {
+        this.fromVersion = fromVersion;
+        this.version = version;
+    }
+
+    static PodChanges between(PodSnapshot previous, PodSnapshot current) {
+        PodChanges changes = new PodChanges(previous.getVersion(), current.getVersion());
+        Map<String, PodRecord> previousByKey = new HashMap<>(Math.max(16, previous.size() * 2));
+        previous.getPods().forEach(pod -> previousByKey.put(pod.getKey(), pod));
+        for (PodRecord pod : current.getPods()) {
+            PodRecord before = previousByKey.remove(pod.getKey());
+            if (before == null) {
+                changes.added.add(pod);
+            } else if (before != pod && !before.equals(pod)) {
+                if (before.withUsage(pod.getCpuUsageMillis(), pod.getMemoryUsageBytes()).equals(pod)) {
+                    changes.usageChanged.add(new PodRecord[]{before, pod}); // Metrics refreshes touch nearly every row, but only these two fields
+                } else {
+                    changes.changed.add(new PodRecord[]{before, pod});
+                }
+            }
+        }
+        changes.removed.addAll(previousByKey.values());
+        return changes;
+    }
+
+    long getFromVersion() {
+        return fromVersion;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    List<PodRecord> getAdded() {
+        return added;
+    }
+
+    List<PodRecord[]> getChanged() {
+        return changed;
+    }
+
+    /**
+     * Changed rows whose usage figures are the only difference; not included in {@link #getChanged()}. Usage is not
+     * a filter field, so such a row matches a filter exactly when its previous version did.
+     */
+    List<PodRecord[]> getUsageChanged() {
+        return usageChanged;
+    }
+
+    List<PodRecord> getRemoved() {
+        return removed;
+    }
+
+    boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && usageChanged.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.dto.LivePodList;
+import com.example.openshiftdashboard.dto.PodUIDetail;
+import com.example.openshiftdashboard.model.PodRecord;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Single-namespace drill-downs that bypass the cache: the user's filters are pushed down to the API server as
+ * label and field selectors (status as {@code status.phase}), so only matching pods are listed and mapped. The
+ * application name and search query have no selector equivalent and are still matched in memory.
+ */
+@Service
+public class PodDrillDownService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodDrillDownService.class);
+
+    private static final int HTTP_BAD_REQUEST = 400;
+
+    private final OpenShiftProperties openShiftProperties;
+    private final OpenShiftClientService openShiftClientService;
+
+    public PodDrillDownService(OpenShiftProperties openShiftProperties, OpenShiftClientService openShiftClientService) {
+        this.openShiftProperties = openShiftProperties;
+        this.openShiftClientService = openShiftClientService;
+    }
+
+    /**
+     * Lists one namespace live on every instance that has it configured, optionally narrowed to one instance or data
+     * center. An instance that cannot be reached is reported in {@code failedInstances} rather than failing the call.
+     *
+     * @throws IllegalArgumentException if nothing matches the namespace/instance/data center, or the API server
+     *                                  rejects a selector
+     */
+    public LivePodList fetch(String instanceName, String dataCenter, String namespace, String appName, String podStatus,
+                             PodSearchQuery searchQuery, String labelSelector, String fieldSelector, int limit) {
+        if (!StringUtils.hasText(namespace)) {
+            throw new IllegalArgumentException("A drill-down needs a namespace");
+        }
+        List<OpenShiftInstanceProperties> targets = resolveTargets(instanceName, dataCenter, namespace);
+        String effectiveFieldSelector = PodSelectors.combine(fieldSelector, StringUtils.hasText(podStatus) ? "status.phase=" + phaseOf(podStatus) : null);
+        PodFilter textFilter = new PodFilter(null, null, appName, null, searchQuery);
+
+        List<PodUIDetail> content = new ArrayList<>();
+        List<String> queried = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        boolean truncated = false;
+        for (OpenShiftInstanceProperties instanceConfig : targets) {
+            queried.add(instanceConfig.getName());
+            try {
+                OpenShiftClientService.LivePods livePods = openShiftClientService.fetchPodsLive(instanceConfig, namespace,
+                        labelSelector, effectiveFieldSelector, limit);
+                truncated |= livePods.truncated();
+                for (PodRecord pod : livePods.pods()) {
+                    if (textFilter.test(pod)) {
+                        content.add(pod.toUIDetail());
+                    }
+                }
+            } catch (KubernetesClientException e) {
+                if (e.getCode() == HTTP_BAD_REQUEST) {
+                    throw new IllegalArgumentException("Selector rejected by instance " + instanceConfig.getName() + ": " + e.getMessage(), e);
+                }
+                logger.warn("Live list of namespace '{}' in instance '{}' failed. Status: {}. Message: {}",
+                        namespace, instanceConfig.getName(), e.getCode(), e.getMessage());
+                failed.add(instanceConfig.getName());
+            }
+        }
+        return new LivePodList(content, namespace, PodSelectors.combine(labelSelector), effectiveFieldSelector,
+                queried, failed, truncated, Instant.now());
+    }
+
+    private List<OpenShiftInstanceProperties> resolveTargets(String instanceName, String dataCenter, String namespace) {
+        List<OpenShiftInstanceProperties> instances = openShiftProperties.getInstances() != null
+                ? openShiftProperties.getInstances() : Collections.emptyList();
+        List<OpenShiftInstanceProperties> targets = instances.stream()
+                .filter(instance -> !StringUtils.hasText(instanceName) || instanceName.equals(instance.getName()))
+                .filter(instance -> !StringUtils.hasText(dataCenter) || dataCenter.equalsIgnoreCase(instance.getDataCenter()))
+                .filter(instance -> instance.getNamespaces() != null && instance.getNamespaces().contains(namespace))
+                .toList();
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("Namespace " + namespace + " is not configured for any matching instance");
+        }
+        return targets;
+    }
+
+    // Phases are capitalized ("Running"); the dashboard filter matches them case-insensitively, the API server does not
+    private static String phaseOf(String podStatus) {
+        String trimmed = podStatus.trim();
+        return trimmed.substring(0, 1).toUpperCase(Locale.ROOT) + trimmed.substring(1).toLowerCase(Locale.ROOT);
+    }
+}
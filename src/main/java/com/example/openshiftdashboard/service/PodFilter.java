@@ -0,0 +1,67 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+
+import java.util.function.Predicate;
+
+/**
+ * The dashboard's filter form as a predicate: data center, namespace and status match case-insensitively,
+ * application name is a case-insensitive "contains", and an optional {@link PodSearchQuery} must match too.
+ * Empty values match everything.
+ */
+public final class PodFilter implements Predicate<PodRecord> {
+
+    private final String dataCenter;
+    private final String namespace;
+    private final String podStatus;
+    private final PodSearchQuery searchQuery; // Includes the application name term
+
+    public PodFilter(String dataCenter, String namespace, String appName, String podStatus) {
+        this(dataCenter, namespace, appName, podStatus, PodSearchQuery.EMPTY);
+    }
+
+    public PodFilter(String dataCenter, String namespace, String appName, String podStatus, PodSearchQuery searchQuery) {
+        this.dataCenter = hasText(dataCenter) ? dataCenter : null;
+        this.namespace = hasText(namespace) ? namespace : null;
+        this.podStatus = hasText(podStatus) ? podStatus : null;
+        this.searchQuery = searchQuery.withApplicationName(appName);
+    }
+
+    public String getDataCenter() {
+        return dataCenter;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getPodStatus() {
+        return podStatus;
+    }
+
+    public PodSearchQuery getSearchQuery() {
+        return searchQuery;
+    }
+
+    public boolean isEmpty() {
+        return dataCenter == null && namespace == null && podStatus == null && searchQuery.isEmpty();
+    }
+
+    @Override
+    public boolean test(PodRecord pod) {
+        return matchesExactFilters(pod) && searchQuery.test(pod);
+    }
+
+    // Data center, namespace and status only; the text part is answered by the snapshot's search index when it has one
+    boolean matchesExactFilters(PodRecord pod) {
+        return matches(dataCenter, pod.getDataCenter()) && matches(namespace, pod.getNamespace()) && matches(podStatus, pod.getPodStatus());
+    }
+
+    private static boolean matches(String filterValue, String actual) {
+        return filterValue == null || filterValue.equalsIgnoreCase(actual);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
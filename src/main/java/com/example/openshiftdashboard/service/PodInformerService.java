@@ -0,0 +1,226 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ExceptionHandler;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in (openshift.watch-enabled) incremental cache maintenance: one shared informer per instance/namespace
+ * applies pod add, update and delete events to {@link DashboardDataService}, so API traffic scales with churn
+ * rather than fleet size. Usage metrics are not part of pod events and still come from the metrics schedule;
+ * the inventory refresh remains the full-list fallback.
+ */
+@Service
+public class PodInformerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodInformerService.class);
+    private static final long RESTART_BACKOFF_MIN_MILLIS = 5_000;
+
+    private final OpenShiftProperties openShiftProperties;
+    private final KubernetesClientRegistry kubernetesClientRegistry;
+    private final PodRecordMapper podRecordMapper;
+    private final DashboardDataService dashboardDataService;
+    // Keyed by "instance/namespace"
+    private final Map<String, SharedIndexInformer<Pod>> informers = new ConcurrentHashMap<>();
+    // Same keys; how many times in a row each informer stopped (or failed to start) and when it may next be recreated
+    private final Map<String, Restarts> restarts = new ConcurrentHashMap<>();
+
+    public PodInformerService(OpenShiftProperties openShiftProperties, KubernetesClientRegistry kubernetesClientRegistry,
+                              PodRecordMapper podRecordMapper, DashboardDataService dashboardDataService) {
+        this.openShiftProperties = openShiftProperties;
+        this.kubernetesClientRegistry = kubernetesClientRegistry;
+        this.podRecordMapper = podRecordMapper;
+        this.dashboardDataService = dashboardDataService;
+        kubernetesClientRegistry.addClientReplacedListener(this::stopInformersOf);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInformers() {
+        if (!openShiftProperties.isWatchEnabled() || openShiftProperties.getInstances() == null) {
+            return;
+        }
+        logger.info("Watch mode enabled. Starting pod informers (resync every {}s).", openShiftProperties.getInformerResyncSeconds());
+        ensureInformersRunning();
+    }
+
+    /**
+     * Publishes coalesced watch events and restarts any informer that has stopped. Informers relist on their own
+     * when the API server reports an expired resourceVersion (410 Gone); a stopped informer (e.g. after its client was
+     * rebuilt or the watch gave up) is recreated here, which does a fresh list. An informer that keeps stopping is
+     * recreated after 5s, then 10s, 20s and so on (capped at refresh-backoff-max-seconds), not on every tick.
+     */
+    @Scheduled(fixedDelayString = "${openshift.watch-publish-interval-ms:1000}")
+    public void publishAndCheckInformers() {
+        if (!openShiftProperties.isWatchEnabled()) {
+            return;
+        }
+        dashboardDataService.publishPendingChanges();
+        ensureInformersRunning();
+    }
+
+    // Synchronized: the startup call and the first scheduled tick can overlap, and must not both create an informer
+    private synchronized void ensureInformersRunning() {
+        if (openShiftProperties.getInstances() == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (OpenShiftInstanceProperties instanceConfig : openShiftProperties.getInstances()) {
+            if (instanceConfig.getNamespaces() == null) {
+                continue;
+            }
+            for (String namespace : instanceConfig.getNamespaces()) {
+                if (!StringUtils.hasText(namespace)) {
+                    continue;
+                }
+                String key = instanceConfig.getName() + "/" + namespace;
+                SharedIndexInformer<Pod> existing = informers.get(key);
+                Restarts previous = restarts.get(key);
+                if (existing != null && existing.isRunning()) {
+                    if (previous != null && existing.hasSynced() && now >= previous.notBeforeMillis + restartDelayMillis(previous.failures)) {
+                        restarts.remove(key); // Stayed up at least as long as it was last made to wait
+                    }
+                    continue;
+                }
+                if (existing != null) {
+                    // Wait from when the stop is noticed, however long the failed start took
+                    int failures = previous != null ? previous.failures + 1 : 1;
+                    restarts.put(key, new Restarts(failures, now + restartDelayMillis(failures)));
+                    informers.remove(key);
+                    existing.close();
+                    dashboardDataService.stopWatching(instanceConfig.getName(), namespace);
+                    logger.warn("Pod informer for namespace '{}' in instance '{}' has stopped ({} in a row). Restarting it with a fresh list in {}s.",
+                            namespace, instanceConfig.getName(), failures, restartDelayMillis(failures) / 1000);
+                    continue;
+                }
+                if (previous != null && now < previous.notBeforeMillis) {
+                    continue; // Backing off
+                }
+                try {
+                    informers.put(key, startInformer(instanceConfig, namespace));
+                } catch (Exception e) {
+                    int failures = previous != null ? previous.failures + 1 : 1;
+                    restarts.put(key, new Restarts(failures, now + restartDelayMillis(failures)));
+                    logger.error("Could not start pod informer for namespace '{}' in instance '{}': {}", namespace, instanceConfig.getName(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    // 5s after the first stop, doubling per further stop up to refresh-backoff-max-seconds
+    private long restartDelayMillis(int failures) {
+        long maxMillis = Math.max(RESTART_BACKOFF_MIN_MILLIS, openShiftProperties.getRefreshBackoffMaxSeconds() * 1000);
+        long delay = RESTART_BACKOFF_MIN_MILLIS;
+        for (int i = 1; i < failures && delay < maxMillis; i++) {
+            delay *= 2;
+        }
+        return Math.min(delay, maxMillis);
+    }
+
+    private SharedIndexInformer<Pod> startInformer(OpenShiftInstanceProperties instanceConfig, String namespace) {
+        KubernetesClient client = kubernetesClientRegistry.getClient(instanceConfig);
+        // Same selectors as the inventory list, so watch mode tracks the same rows; pods that stop matching
+        // (e.g. a job pod reaching Succeeded under "status.phase!=Succeeded") arrive as deletes
+        SharedIndexInformer<Pod> informer = PodSelectors.withFieldSelector(client.pods().inNamespace(namespace)
+                        .withLabelSelector(PodSelectors.labelSelector(instanceConfig, namespace)),
+                        PodSelectors.fieldSelector(instanceConfig, namespace))
+                .withLimit(Math.max(1, instanceConfig.getListPageSize())) // Page the initial list and relists too
+                .runnableInformer(openShiftProperties.getInformerResyncSeconds() * 1000);
+        informer.addEventHandler(new PodEventHandler(instanceConfig, namespace));
+        informer.exceptionHandler(retryUnlessFatal(instanceConfig.getName(), namespace));
+        informer.start().whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.error("Pod informer for namespace '{}' in instance '{}' failed to start: {}", namespace, instanceConfig.getName(), error.getMessage());
+            } else {
+                Set<String> liveKeys = new HashSet<>();
+                informer.getStore().list().forEach(pod -> liveKeys.add(keyOf(namespace, pod)));
+                dashboardDataService.startWatching(instanceConfig.getName(), namespace, liveKeys);
+                logger.info("Pod informer for namespace '{}' in instance '{}' synced.", namespace, instanceConfig.getName());
+            }
+        });
+        return informer;
+    }
+
+    // Same identity as PodRecord.getKey()
+    private static String keyOf(String namespace, Pod pod) {
+        return pod.getMetadata().getUid() != null ? pod.getMetadata().getUid() : namespace + "/" + pod.getMetadata().getName();
+    }
+
+    private ExceptionHandler retryUnlessFatal(String instanceName, String namespace) {
+        return (isStarted, t) -> {
+            logger.warn("Pod informer for namespace '{}' in instance '{}' hit an error (started: {}): {}", namespace, instanceName, isStarted, t.getMessage());
+            // Retry list/watch failures once running; give up on unparseable data or a failed initial sync,
+            // in which case ensureInformersRunning() recreates the informer on a later tick.
+            return isStarted && !ExceptionHandler.isDeserializationException(t);
+        };
+    }
+
+    /**
+     * Closes an instance's informers after its client was rebuilt; they would otherwise keep watching through the old
+     * client until it is closed. The next check recreates them against the new client, without counting as failures.
+     */
+    private synchronized void stopInformersOf(String instanceName) {
+        informers.entrySet().removeIf(entry -> {
+            if (!entry.getKey().startsWith(instanceName + "/")) {
+                return false;
+            }
+            String namespace = entry.getKey().substring(instanceName.length() + 1);
+            entry.getValue().close();
+            dashboardDataService.stopWatching(instanceName, namespace);
+            restarts.remove(entry.getKey());
+            logger.info("Client for instance '{}' was rebuilt. Restarting the pod informer for namespace '{}'.", instanceName, namespace);
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public synchronized void stopInformers() {
+        informers.values().forEach(SharedIndexInformer::close);
+        informers.clear();
+        restarts.clear();
+    }
+
+    private record Restarts(int failures, long notBeforeMillis) {
+    }
+
+    private class PodEventHandler implements ResourceEventHandler<Pod> {
+        private final OpenShiftInstanceProperties instanceConfig;
+        private final String namespace;
+
+        PodEventHandler(OpenShiftInstanceProperties instanceConfig, String namespace) {
+            this.instanceConfig = instanceConfig;
+            this.namespace = namespace;
+        }
+
+        @Override
+        public void onAdd(Pod pod) {
+            dashboardDataService.upsertPod(instanceConfig.getName(), podRecordMapper.mapWatchedPod(pod, instanceConfig.getDataCenter(), namespace));
+        }
+
+        @Override
+        public void onUpdate(Pod oldPod, Pod newPod) {
+            dashboardDataService.upsertPod(instanceConfig.getName(), podRecordMapper.mapWatchedPod(newPod, instanceConfig.getDataCenter(), namespace));
+        }
+
+        @Override
+        public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+            dashboardDataService.removePod(instanceConfig.getName(), namespace, pod.getMetadata().getName(), pod.getMetadata().getUid());
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.model.ResourceQuantities;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.ContainerMetrics;
+import io.fabric8.kubernetes.api.model.metrics.v1beta1.PodMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Turns fabric8 Pod (and PodMetrics) objects into cache records: app name/version from labels, owner or image tag,
+ * deployment type from Helm labels, and numeric resources and usage.
+ */
+@Component
+public class PodRecordMapper {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodRecordMapper.class);
+
+    /**
+     * Maps a pod delivered by a watch event. Usage is not part of the event, so it is left as not reported.
+     */
+    public PodRecord mapWatchedPod(Pod pod, String dataCenter, String namespace) {
+        return map(pod, Collections.emptyMap(), dataCenter, namespace);
+    }
+
+    /**
+     * Maps a listed pod, taking its usage from the namespace's metrics keyed by pod name. A {@code null} map means
+     * the metrics call failed for the whole namespace.
+     */
+    public PodRecord map(Pod pod, Map<String, PodMetrics> podMetricsByName, String dataCenter, String currentNamespaceFromConfig) {
+        PodRecord.PodRecordBuilder record = PodRecord.builder();
+        record.dataCenter(dataCenter != null ? dataCenter : "N/A");
+
+        String actualNamespace = pod.getMetadata().getNamespace();
+        record.namespace(actualNamespace != null ? actualNamespace : currentNamespaceFromConfig);
+
+        record.podName(pod.getMetadata().getName());
+        record.podStatus(pod.getStatus() != null ? pod.getStatus().getPhase() : "Unknown");
+        record.podIP(pod.getStatus() != null ? pod.getStatus().getPodIP() : "N/A");
+        record.nodeName(pod.getSpec() != null ? pod.getSpec().getNodeName() : "N/A");
+
+        try {
+            if (StringUtils.hasText(pod.getMetadata().getCreationTimestamp())) {
+                record.creationEpochMillis(OffsetDateTime.parse(pod.getMetadata().getCreationTimestamp()).toInstant().toEpochMilli());
+            } else {
+                record.creationEpochMillis(PodRecord.TIMESTAMP_NOT_SET);
+            }
+        } catch (DateTimeParseException e) {
+            logger.warn("Could not parse creation timestamp '{}' for pod {}: {}", pod.getMetadata().getCreationTimestamp(), pod.getMetadata().getName(), e.getMessage());
+            record.creationEpochMillis(PodRecord.TIMESTAMP_PARSE_ERROR);
+        }
+        record.uid(pod.getMetadata().getUid());
+
+
+        Map<String, String> labels = pod.getMetadata().getLabels() != null ? pod.getMetadata().getLabels() : Collections.emptyMap();
+        String appName = labels.getOrDefault("app.kubernetes.io/name", labels.get("app"));
+        if (appName == null && pod.getMetadata().getOwnerReferences() != null && !pod.getMetadata().getOwnerReferences().isEmpty()) {
+            String ownerName = pod.getMetadata().getOwnerReferences().get(0).getName();
+            if (ownerName != null) {
+                appName = ownerName.replaceFirst("-[a-zA-Z0-9]{8,10}$", "").replaceFirst("-[0-9]+$", "");
+            }
+        }
+        record.applicationName(appName != null ? appName : "N/A");
+
+
+        String appVersion = labels.getOrDefault("app.kubernetes.io/version", labels.get("version"));
+        String dockerImage = null;
+        if (pod.getSpec() != null && pod.getSpec().getContainers() != null && !pod.getSpec().getContainers().isEmpty()) {
+            Container firstContainer = pod.getSpec().getContainers().get(0);
+            if (firstContainer != null) {
+                dockerImage = firstContainer.getImage();
+                if (appVersion == null && dockerImage != null && dockerImage.contains(":")) {
+                    String tag = dockerImage.substring(dockerImage.lastIndexOf(":") + 1);
+                    if (!"latest".equalsIgnoreCase(tag) && !tag.matches("^[a-f0-9]{64}$")) {
+                        appVersion = tag;
+                    }
+                }
+            }
+        }
+        record.dockerImage(dockerImage != null ? dockerImage : "N/A");
+        record.applicationVersion(appVersion != null ? appVersion : "N/A");
+
+        if ("Helm".equalsIgnoreCase(labels.get("app.kubernetes.io/managed-by"))) {
+            record.deploymentType("Helm");
+            record.helmChartInfo(labels.getOrDefault("helm.sh/chart", "N/A"));
+        } else {
+            record.deploymentType("Manifest/Other");
+            record.helmChartInfo("N/A");
+        }
+
+        // Requests and limits are summed over all app containers, the way the scheduler counts them (init containers aside).
+        // One container without a limit leaves the whole pod unbounded, so a limit only counts if every container sets it.
+        List<Container> containers = pod.getSpec() != null && pod.getSpec().getContainers() != null
+                ? pod.getSpec().getContainers() : Collections.emptyList();
+        record.cpuRequestMillis(sum(containers, container -> ResourceQuantities.toMillicores(resource(container, true, "cpu"))));
+        record.memoryRequestBytes(sum(containers, container -> ResourceQuantities.toBytes(resource(container, true, "memory"))));
+        record.cpuLimitMillis(sumOfAll(containers, container -> ResourceQuantities.toMillicores(resource(container, false, "cpu"))));
+        record.memoryLimitBytes(sumOfAll(containers, container -> ResourceQuantities.toBytes(resource(container, false, "memory"))));
+
+        // ** METRICS - RESOLVED FROM THE NAMESPACE-WIDE PodMetricsList **
+        if (podMetricsByName == null) {
+            record.cpuUsageMillis(ResourceQuantities.METRICS_UNAVAILABLE);
+            record.memoryUsageBytes(ResourceQuantities.METRICS_UNAVAILABLE);
+        } else {
+            PodMetrics podMetrics = podMetricsByName.get(pod.getMetadata().getName());
+            long[] usage = usageOf(podMetrics);
+            record.cpuUsageMillis(usage[0]);
+            record.memoryUsageBytes(usage[1]);
+            if (podMetrics == null) {
+                logger.debug("No metrics reported for pod {} in namespace {}.", pod.getMetadata().getName(), actualNamespace);
+            } else if (podMetrics.getContainers() == null || podMetrics.getContainers().isEmpty()) {
+                logger.debug("PodMetrics object found for pod {} in namespace {} but it has no container metrics.", pod.getMetadata().getName(), actualNamespace);
+            }
+        }
+        return record.build();
+    }
+
+    /**
+     * Usage of the whole pod as {cpuMillicores, memoryBytes}: every container's sample, summed.
+     * {@link ResourceQuantities#NOT_REPORTED} when the metrics-server has no sample for it.
+     */
+    public long[] usageOf(PodMetrics podMetrics) {
+        if (podMetrics == null || podMetrics.getContainers() == null || podMetrics.getContainers().isEmpty()) {
+            return new long[]{ResourceQuantities.NOT_REPORTED, ResourceQuantities.NOT_REPORTED};
+        }
+        long cpuUsage = sum(podMetrics.getContainers(), containerMetrics -> ResourceQuantities.toMillicores(usage(containerMetrics, "cpu")));
+        long memoryUsage = sum(podMetrics.getContainers(), containerMetrics -> ResourceQuantities.toBytes(usage(containerMetrics, "memory")));
+        return new long[]{cpuUsage != ResourceQuantities.NOT_SET ? cpuUsage : ResourceQuantities.NOT_REPORTED,
+                memoryUsage != ResourceQuantities.NOT_SET ? memoryUsage : ResourceQuantities.NOT_REPORTED};
+    }
+
+    /**
+     * Adds up one encoded quantity over several containers, for requests and usage. Containers that don't set it are
+     * skipped, as they add nothing; the result is {@link ResourceQuantities#NOT_SET} only if none does, and
+     * {@link ResourceQuantities#INVALID} if a value is unparseable.
+     */
+    private static <T> long sum(List<T> containers, ToLongFunction<T> encodedValue) {
+        return sum(containers, encodedValue, false);
+    }
+
+    /**
+     * Like {@link #sum}, for limits: {@link ResourceQuantities#NOT_SET} (unbounded) as soon as one container doesn't
+     * set the value, so a partial sum is never shown as the pod's limit.
+     */
+    private static <T> long sumOfAll(List<T> containers, ToLongFunction<T> encodedValue) {
+        return sum(containers, encodedValue, true);
+    }
+
+    private static <T> long sum(List<T> containers, ToLongFunction<T> encodedValue, boolean everyContainer) {
+        long total = ResourceQuantities.NOT_SET;
+        boolean missing = false;
+        for (T container : containers) {
+            if (container == null) {
+                continue;
+            }
+            long value = encodedValue.applyAsLong(container);
+            if (value == ResourceQuantities.INVALID) {
+                return ResourceQuantities.INVALID;
+            }
+            if (ResourceQuantities.isValue(value)) {
+                total = ResourceQuantities.isValue(total) ? total + value : value;
+            } else {
+                missing = true;
+            }
+        }
+        return everyContainer && missing ? ResourceQuantities.NOT_SET : total;
+    }
+
+    private static Quantity resource(Container container, boolean request, String name) {
+        if (container.getResources() == null) {
+            return null;
+        }
+        Map<String, Quantity> quantities = request ? container.getResources().getRequests() : container.getResources().getLimits();
+        return quantities != null ? quantities.get(name) : null;
+    }
+
+    private static Quantity usage(ContainerMetrics containerMetrics, String name) {
+        return containerMetrics.getUsage() != null ? containerMetrics.getUsage().get(name) : null;
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only search index over the rows of one {@link PodSnapshot}, addressed by position in the snapshot.
+ *
+ * <p>Per searchable field the distinct values are lower-cased once at build time and mapped to their rows, and a
+ * trigram index over those distinct values narrows terms of three or more characters to a few candidates that are
+ * then confirmed with {@code contains}. Shorter terms scan the distinct values. Images, nodes, charts and
+ * applications repeat heavily, so their distinct tables are much smaller than the snapshot; pod names and IPs are
+ * close to one value per row and are where the trigrams pay off.
+ */
+final class PodSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int CACHED_TERMS = 64;
+
+    private final int rowCount;
+    private final Map<PodSearchQuery.Field, FieldIndex> fields = new EnumMap<>(PodSearchQuery.Field.class);
+    // Paging, sorting and stream resyncs repeat the same terms against the same snapshot; bitmaps are never modified
+    private final Map<PodSearchQuery.Term, long[]> rowsByTerm = new ConcurrentHashMap<>();
+
+    private PodSearchIndex(List<PodRecord> pods) {
+        this.rowCount = pods.size();
+        for (PodSearchQuery.Field field : PodSearchQuery.Field.values()) {
+            fields.put(field, new FieldIndex(pods, field));
+        }
+    }
+
+    static PodSearchIndex build(List<PodRecord> pods) {
+        return new PodSearchIndex(pods);
+    }
+
+    /**
+     * Positions of the rows matching every term of the query (every row for an empty query).
+     */
+    BitSet match(PodSearchQuery query) {
+        // Plain long[] bitmaps while matching: setting tens of thousands of bits goes through no bounds checks
+        long[] result = new long[(rowCount + 63) >>> 6];
+        Arrays.fill(result, -1L);
+        if (rowCount % 64 != 0) {
+            result[result.length - 1] = (1L << rowCount) - 1;
+        }
+        for (PodSearchQuery.Term term : query.getTerms()) {
+            long[] termRows = rowsOf(term, result.length);
+            boolean any = false;
+            for (int i = 0; i < result.length; i++) {
+                result[i] &= termRows[i];
+                any |= result[i] != 0;
+            }
+            if (!any) {
+                break;
+            }
+        }
+        return BitSet.valueOf(result);
+    }
+
+    private long[] rowsOf(PodSearchQuery.Term term, int words) {
+        long[] cached = rowsByTerm.get(term);
+        if (cached != null) {
+            return cached;
+        }
+        long[] termRows = new long[words];
+        for (PodSearchQuery.Field field : term.fields()) {
+            fields.get(field).addMatchingRows(term.text(), termRows);
+        }
+        if (rowsByTerm.size() >= CACHED_TERMS) {
+            rowsByTerm.clear(); // Crude, but the index only lives until the next publish
+        }
+        rowsByTerm.put(term, termRows);
+        return termRows;
+    }
+
+    private static final class FieldIndex {
+        private final String[] values; // Distinct lower-cased values
+        private final int[] rowStart; // Value id -> offset into rows; its rows are rows[rowStart[id]..rowStart[id + 1])
+        private final int[] rows; // Row positions grouped by value, ascending within each value
+        private final TrigramPostings postings;
+
+        private FieldIndex(List<PodRecord> pods, PodSearchQuery.Field field) {
+            // Most values are interned strings shared by many rows, so the raw lookup usually hits without lower-casing
+            Map<String, Integer> idByRawValue = new HashMap<>();
+            Map<String, Integer> idByValue = new HashMap<>();
+            int[] valueIdByRow = new int[pods.size()];
+            for (int row = 0; row < pods.size(); row++) {
+                String raw = field.valueOf(pods.get(row));
+                if (raw == null) {
+                    valueIdByRow[row] = -1;
+                    continue;
+                }
+                Integer id = idByRawValue.get(raw);
+                if (id == null) {
+                    id = idByValue.computeIfAbsent(raw.toLowerCase(Locale.ROOT), value -> idByValue.size());
+                    idByRawValue.put(raw, id);
+                }
+                valueIdByRow[row] = id;
+            }
+            values = new String[idByValue.size()];
+            idByValue.forEach((value, id) -> values[id] = value);
+
+            // Count rows per value, then fill in row order so each value's rows come out ascending
+            rowStart = new int[values.length + 1];
+            for (int id : valueIdByRow) {
+                if (id >= 0) {
+                    rowStart[id + 1]++;
+                }
+            }
+            for (int id = 0; id < values.length; id++) {
+                rowStart[id + 1] += rowStart[id];
+            }
+            rows = new int[rowStart[values.length]];
+            int[] next = Arrays.copyOf(rowStart, values.length);
+            for (int row = 0; row < valueIdByRow.length; row++) {
+                if (valueIdByRow[row] >= 0) {
+                    rows[next[valueIdByRow[row]]++] = row;
+                }
+            }
+            postings = new TrigramPostings(values);
+        }
+
+        private void addMatchingRows(String text, long[] out) {
+            if (text.length() < GRAM) {
+                for (int id = 0; id < values.length; id++) {
+                    if (values[id].contains(text)) {
+                        addRows(id, out);
+                    }
+                }
+                return;
+            }
+            // A single trigram needs no check; longer texts can have every trigram without them being adjacent
+            boolean verify = text.length() > GRAM;
+            for (int id : postings.candidates(text)) {
+                if (!verify || values[id].contains(text)) {
+                    addRows(id, out);
+                }
+            }
+        }
+
+        private void addRows(int valueId, long[] out) {
+            for (int i = rowStart[valueId]; i < rowStart[valueId + 1]; i++) {
+                out[rows[i] >>> 6] |= 1L << rows[i];
+            }
+        }
+    }
+
+    /**
+     * Trigram -> ascending value ids. Trigrams are packed into longs and kept in an open-addressing table, and all
+     * posting lists share one array filled in two passes (count, then fill), so building allocates no per-trigram
+     * objects. Trigrams found in more than 1/32 of the values also get a bitmap over value ids (no larger than their
+     * posting list), so narrowing candidates by a common trigram such as "app" is a bit test rather than a merge.
+     */
+    private static final class TrigramPostings {
+        private static final int[] NONE = new int[0];
+
+        private long[] keys = new long[1024]; // 0 = empty slot
+        private int[] gramBySlot = new int[1024];
+        private int gramCount;
+        private final int[] start; // Gram -> offset into ids; its value ids are ids[start[gram]..start[gram + 1])
+        private final int[] ids;
+        private final long[][] denseBits; // Gram -> bitmap over value ids, or null for a sparse gram
+
+        private TrigramPostings(String[] values) {
+            int[] counts = new int[1024];
+            int[] lastValue = new int[1024]; // Gram -> last value id counted for it
+            Arrays.fill(lastValue, -1);
+            for (int id = 0; id < values.length; id++) {
+                String value = values[id];
+                for (int pos = 0; pos + GRAM <= value.length(); pos++) {
+                    int gram = findOrAdd(key(value, pos));
+                    if (gram == counts.length) {
+                        counts = Arrays.copyOf(counts, gram * 2);
+                        lastValue = Arrays.copyOf(lastValue, gram * 2);
+                        Arrays.fill(lastValue, gram, lastValue.length, -1);
+                    }
+                    if (lastValue[gram] != id) { // A value repeating a trigram is listed once
+                        lastValue[gram] = id;
+                        counts[gram]++;
+                    }
+                }
+            }
+            start = new int[gramCount + 1];
+            for (int gram = 0; gram < gramCount; gram++) {
+                start[gram + 1] = start[gram] + counts[gram];
+            }
+            ids = new int[start[gramCount]];
+            int[] next = Arrays.copyOf(start, gramCount);
+            Arrays.fill(lastValue, 0, gramCount, -1);
+            for (int id = 0; id < values.length; id++) {
+                String value = values[id];
+                for (int pos = 0; pos + GRAM <= value.length(); pos++) {
+                    int gram = find(key(value, pos));
+                    if (lastValue[gram] != id) {
+                        lastValue[gram] = id;
+                        ids[next[gram]++] = id;
+                    }
+                }
+            }
+            denseBits = new long[gramCount][];
+            for (int gram = 0; gram < gramCount; gram++) {
+                if (size(gram) * 32L > values.length) {
+                    long[] bits = new long[(values.length + 63) >>> 6];
+                    for (int i = start[gram]; i < start[gram + 1]; i++) {
+                        bits[ids[i] >>> 6] |= 1L << ids[i];
+                    }
+                    denseBits[gram] = bits;
+                }
+            }
+        }
+
+        /**
+         * Values that may contain the text: the rarest trigram's values, narrowed by the other trigrams where that
+         * is cheaper than checking the extra candidates with {@code contains}, which the caller does anyway.
+         */
+        private int[] candidates(String text) {
+            int[] grams = new int[text.length() - GRAM + 1];
+            for (int pos = 0; pos < grams.length; pos++) {
+                grams[pos] = find(key(text, pos));
+                if (grams[pos] < 0) {
+                    return NONE;
+                }
+            }
+            int shortest = 0;
+            for (int i = 1; i < grams.length; i++) {
+                if (size(grams[i]) < size(grams[shortest])) {
+                    shortest = i;
+                }
+            }
+            int[] result = Arrays.copyOfRange(ids, start[grams[shortest]], start[grams[shortest] + 1]);
+            for (int i = 0; i < grams.length && result.length > 0; i++) {
+                if (i == shortest) {
+                    continue;
+                }
+                if (denseBits[grams[i]] != null) {
+                    result = retainSet(result, denseBits[grams[i]]);
+                } else if (size(grams[i]) <= 4L * result.length) {
+                    result = intersect(result, grams[i]);
+                } // A much longer list would cost more to merge than the contains checks it could save
+            }
+            return result;
+        }
+
+        private static int[] retainSet(int[] candidates, long[] bits) {
+            int size = 0;
+            for (int id : candidates) {
+                if ((bits[id >>> 6] & 1L << id) != 0) {
+                    candidates[size++] = id;
+                }
+            }
+            return size == candidates.length ? candidates : Arrays.copyOf(candidates, size);
+        }
+
+        private int size(int gram) {
+            return start[gram + 1] - start[gram];
+        }
+
+        private int[] intersect(int[] candidates, int gram) {
+            int[] result = new int[candidates.length];
+            int size = 0;
+            int i = 0;
+            int j = start[gram];
+            int end = start[gram + 1];
+            while (i < candidates.length && j < end) {
+                if (candidates[i] < ids[j]) {
+                    i++;
+                } else if (candidates[i] > ids[j]) {
+                    j++;
+                } else {
+                    result[size++] = candidates[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static long key(String text, int pos) {
+            // Marker bit keeps every key non-zero, since 0 marks an empty slot
+            return 1L << 48 | (long) text.charAt(pos) << 32 | (long) text.charAt(pos + 1) << 16 | text.charAt(pos + 2);
+        }
+
+        private static int slotOf(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ hash >>> 32) & mask;
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            for (int slot = slotOf(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return gramBySlot[slot];
+                }
+            }
+            return -1;
+        }
+
+        private int findOrAdd(long key) {
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            for (; keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return gramBySlot[slot];
+                }
+            }
+            keys[slot] = key;
+            gramBySlot[slot] = gramCount;
+            if (++gramCount * 2 > keys.length) {
+                grow();
+            }
+            return gramCount - 1;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldGrams = gramBySlot;
+            keys = new long[oldKeys.length * 2];
+            gramBySlot = new int[keys.length];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = slotOf(oldKeys[i], mask);
+                    while (keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    gramBySlot[slot] = oldGrams[i];
+                }
+            }
+        }
+    }
+}
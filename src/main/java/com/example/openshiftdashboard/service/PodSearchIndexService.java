@@ -0,0 +1,66 @@
+package com.example.openshiftdashboard.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Builds the {@link PodSearchIndex} for published snapshots on a background thread and attaches it to the snapshot.
+ * Like {@link ResourceRollupService}, publishes are coalesced: only the latest snapshot gets an index, and a snapshot
+ * replaced before its turn simply keeps answering text filters by scanning. Readers never wait for a build.
+ */
+@Service
+public class PodSearchIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodSearchIndexService.class);
+
+    private final ExecutorService indexExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("search-index-"));
+    private final AtomicReference<PodSnapshot> latestPublished = new AtomicReference<>(PodSnapshot.EMPTY);
+    private final AtomicBoolean buildScheduled = new AtomicBoolean();
+
+    public PodSearchIndexService(DashboardDataService dashboardDataService) {
+        dashboardDataService.addPublishListener(this::onPublish);
+        onPublish(dashboardDataService.getSnapshot()); // Whatever was published before this bean existed
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexExecutor.shutdownNow();
+    }
+
+    private void onPublish(PodSnapshot snapshot) {
+        latestPublished.accumulateAndGet(snapshot, (current, candidate) -> candidate.getVersion() >= current.getVersion() ? candidate : current);
+        if (buildScheduled.compareAndSet(false, true)) {
+            try {
+                indexExecutor.execute(this::indexLatest);
+            } catch (RuntimeException e) {
+                buildScheduled.set(false); // Shutting down
+            }
+        }
+    }
+
+    private void indexLatest() {
+        buildScheduled.set(false);
+        PodSnapshot snapshot = latestPublished.get();
+        if (snapshot.hasSearchIndex()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            snapshot.buildSearchIndex();
+            logger.debug("Built search index for {} pods (snapshot version {}) in {} ms",
+                    snapshot.size(), snapshot.getVersion(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (RuntimeException e) {
+            // Text filters keep working by scanning; the next publish tries again
+            logger.error("Failed to build the search index for snapshot version {}: {}", snapshot.getVersion(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Free-text search over pod name, application, image, node, Helm chart and IP. A query is whitespace-separated
+ * terms that must all match; a term is a case-insensitive substring of any searchable field, or of one field when
+ * written as {@code field:text} (e.g. {@code image:nginx node:worker-3}).
+ */
+public final class PodSearchQuery {
+
+    public static final PodSearchQuery EMPTY = new PodSearchQuery(Collections.emptyList());
+
+    public enum Field {
+        NAME("name", PodRecord::getPodName),
+        APP("app", PodRecord::getApplicationName),
+        IMAGE("image", PodRecord::getDockerImage),
+        NODE("node", PodRecord::getNodeName),
+        HELM("helm", PodRecord::getHelmChartInfo),
+        IP("ip", PodRecord::getPodIP);
+
+        private final String prefix;
+        private final Function<PodRecord, String> accessor;
+
+        Field(String prefix, Function<PodRecord, String> accessor) {
+            this.prefix = prefix;
+            this.accessor = accessor;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        String valueOf(PodRecord pod) {
+            return accessor.apply(pod);
+        }
+
+        static Field fromPrefix(String prefix) {
+            for (Field field : values()) {
+                if (field.prefix.equalsIgnoreCase(prefix)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unknown search field: " + prefix);
+        }
+    }
+
+    /**
+     * One term: lower-cased text and the fields it may match (all of them for an unqualified term).
+     */
+    record Term(Set<Field> fields, String text) {
+        boolean matches(PodRecord pod) {
+            for (Field field : fields) {
+                String value = field.valueOf(pod);
+                if (value != null && value.toLowerCase(Locale.ROOT).contains(text)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final List<Term> terms;
+
+    private PodSearchQuery(List<Term> terms) {
+        this.terms = terms;
+    }
+
+    /**
+     * Parses a query; {@code null} or blank gives {@link #EMPTY}.
+     *
+     * @throws IllegalArgumentException for an unknown field or a field without text
+     */
+    public static PodSearchQuery parse(String query) {
+        if (query == null || query.isBlank()) {
+            return EMPTY;
+        }
+        List<Term> terms = new ArrayList<>();
+        for (String token : query.trim().split("\\s+")) {
+            int colon = token.indexOf(':');
+            // Only a plain word before the colon names a field, so a token like "10.0.0.1:8080" stays plain text
+            if (colon > 0 && token.substring(0, colon).chars().allMatch(Character::isLetter)) {
+                Field field = Field.fromPrefix(token.substring(0, colon));
+                String text = token.substring(colon + 1);
+                if (text.isEmpty()) {
+                    throw new IllegalArgumentException("Search field " + field.getPrefix() + ": needs a value");
+                }
+                terms.add(new Term(EnumSet.of(field), text.toLowerCase(Locale.ROOT)));
+            } else {
+                terms.add(new Term(EnumSet.allOf(Field.class), token.toLowerCase(Locale.ROOT)));
+            }
+        }
+        return new PodSearchQuery(List.copyOf(terms));
+    }
+
+    /**
+     * This query plus an application-name "contains" term, as set by the dashboard's application filter.
+     */
+    public PodSearchQuery withApplicationName(String appName) {
+        if (appName == null || appName.isEmpty()) {
+            return this;
+        }
+        List<Term> combined = new ArrayList<>(terms);
+        combined.add(new Term(EnumSet.of(Field.APP), appName.toLowerCase(Locale.ROOT)));
+        return new PodSearchQuery(List.copyOf(combined));
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    List<Term> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Row-by-row evaluation, for single rows (stream deltas) and for snapshots whose index is not built yet.
+     */
+    public boolean test(PodRecord pod) {
+        for (Term term : terms) {
+            if (!term.matches(pod)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
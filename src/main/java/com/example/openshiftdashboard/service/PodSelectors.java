@@ -0,0 +1,72 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.NamespaceRefreshProperties;
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import io.fabric8.kubernetes.client.dsl.Filterable;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Label and field selectors sent with pod list, watch and metrics calls. A namespace's effective selector is the
+ * instance's selector AND the one under its {@code namespaceOverrides} entry; selectors are joined with commas,
+ * which the API server reads as AND.
+ */
+public final class PodSelectors {
+
+    private PodSelectors() {
+    }
+
+    public static String labelSelector(OpenShiftInstanceProperties instanceConfig, String namespace) {
+        NamespaceRefreshProperties override = namespaceOverride(instanceConfig, namespace);
+        return combine(instanceConfig.getLabelSelector(), override != null ? override.getLabelSelector() : null);
+    }
+
+    public static String fieldSelector(OpenShiftInstanceProperties instanceConfig, String namespace) {
+        NamespaceRefreshProperties override = namespaceOverride(instanceConfig, namespace);
+        return combine(instanceConfig.getFieldSelector(), override != null ? override.getFieldSelector() : null);
+    }
+
+    /**
+     * ANDs the given selectors, skipping blank ones; {@code null} if none is left.
+     */
+    public static String combine(String... selectors) {
+        String combined = Arrays.stream(selectors)
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .collect(Collectors.joining(","));
+        return combined.isEmpty() ? null : combined;
+    }
+
+    /**
+     * Applies a field selector string to a fabric8 DSL chain, which only takes field requirements one at a time.
+     * Field selectors only support {@code =}, {@code ==} and {@code !=}.
+     *
+     * @throws IllegalArgumentException if a requirement has none of those operators
+     */
+    static <T extends Filterable<T>> T withFieldSelector(T operation, String fieldSelector) {
+        if (!StringUtils.hasText(fieldSelector)) {
+            return operation;
+        }
+        T filtered = operation;
+        for (String requirement : fieldSelector.split(",")) {
+            int notEquals = requirement.indexOf("!=");
+            int equals = requirement.indexOf('=');
+            if (notEquals > 0) {
+                filtered = filtered.withoutField(requirement.substring(0, notEquals).trim(), requirement.substring(notEquals + 2).trim());
+            } else if (equals > 0) {
+                int valueStart = requirement.startsWith("==", equals) ? equals + 2 : equals + 1;
+                filtered = filtered.withField(requirement.substring(0, equals).trim(), requirement.substring(valueStart).trim());
+            } else {
+                throw new IllegalArgumentException("Invalid field selector requirement: " + requirement.trim());
+            }
+        }
+        return filtered;
+    }
+
+    private static NamespaceRefreshProperties namespaceOverride(OpenShiftInstanceProperties instanceConfig, String namespace) {
+        return instanceConfig.getNamespaceOverrides() != null && namespace != null
+                ? instanceConfig.getNamespaceOverrides().get(namespace) : null;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Immutable, versioned view of the pod cache. Built once per publish and swapped in atomically, so readers
+ * never see a half-filled list. Carries secondary indexes (case-insensitive, matching the dashboard filters)
+ * and precomputed facet values and counts so page loads don't scan or re-sort every row.
+ *
+ * <p>The text search index ({@link PodSearchIndex}) is the exception: it is built by {@link PodSearchIndexService}
+ * after publishing and attached once ready, so publishing never waits for it. Until then text filters scan the rows.
+ */
+public final class PodSnapshot {
+
+    public static final PodSnapshot EMPTY = new PodSnapshot(0, Instant.EPOCH, Collections.emptyList());
+
+    private final long version;
+    private final Instant createdAt;
+    private final List<PodRecord> pods;
+    private final Index byDataCenter;
+    private final Index byNamespace;
+    private final Index byPodStatus;
+    private final Index byNodeName;
+    private volatile PodSearchIndex searchIndex; // Null until built
+
+    public PodSnapshot(long version, Instant createdAt, List<PodRecord> pods) {
+        this.version = version;
+        this.createdAt = createdAt;
+        this.pods = Collections.unmodifiableList(new ArrayList<>(pods));
+        this.byDataCenter = new Index(this.pods, PodRecord::getDataCenter);
+        this.byNamespace = new Index(this.pods, PodRecord::getNamespace);
+        this.byPodStatus = new Index(this.pods, PodRecord::getPodStatus);
+        this.byNodeName = new Index(this.pods, PodRecord::getNodeName);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public List<PodRecord> getPods() {
+        return pods;
+    }
+
+    public int size() {
+        return pods.size();
+    }
+
+    public List<String> getDataCenters() {
+        return byDataCenter.values;
+    }
+
+    public List<String> getNamespaces() {
+        return byNamespace.values;
+    }
+
+    public List<String> getPodStatuses() {
+        return byPodStatus.values;
+    }
+
+    public List<String> getNodeNames() {
+        return byNodeName.values;
+    }
+
+    public Map<String, Integer> getDataCenterCounts() {
+        return byDataCenter.counts;
+    }
+
+    public Map<String, Integer> getNamespaceCounts() {
+        return byNamespace.counts;
+    }
+
+    public Map<String, Integer> getPodStatusCounts() {
+        return byPodStatus.counts;
+    }
+
+    public Map<String, Integer> getNodeNameCounts() {
+        return byNodeName.counts;
+    }
+
+    boolean hasSearchIndex() {
+        return searchIndex != null;
+    }
+
+    /**
+     * Builds and attaches the text search index. Called off the publishing thread; filters scan until it is done.
+     */
+    public void buildSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = PodSearchIndex.build(pods);
+        }
+    }
+
+    /**
+     * Returns the rows matching every non-empty filter, in snapshot order. Exact filters are case-insensitive;
+     * appName is a case-insensitive "contains". Text filters (appName and the search query) are answered by the
+     * search index once it is attached; otherwise this starts from the smallest matching index bucket and checks
+     * the remaining filters only against that bucket.
+     */
+    public List<PodRecord> filter(String dataCenter, String namespace, String appName, String podStatus) {
+        return filter(new PodFilter(dataCenter, namespace, appName, podStatus));
+    }
+
+    public List<PodRecord> filter(PodFilter podFilter) {
+        if (podFilter.isEmpty()) {
+            return pods;
+        }
+        PodSearchIndex index = searchIndex;
+        if (index != null && !podFilter.getSearchQuery().isEmpty()) {
+            return filterIndexed(index, podFilter);
+        }
+        List<PodRecord> candidates = pods;
+        candidates = smaller(candidates, byDataCenter, podFilter.getDataCenter());
+        candidates = smaller(candidates, byNamespace, podFilter.getNamespace());
+        candidates = smaller(candidates, byPodStatus, podFilter.getPodStatus());
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<PodRecord> result = new ArrayList<>();
+        for (PodRecord pod : candidates) {
+            if (podFilter.test(pod)) {
+                result.add(pod);
+            }
+        }
+        return result;
+    }
+
+    private List<PodRecord> filterIndexed(PodSearchIndex index, PodFilter podFilter) {
+        BitSet matches = index.match(podFilter.getSearchQuery());
+        boolean exactFilters = podFilter.getDataCenter() != null || podFilter.getNamespace() != null || podFilter.getPodStatus() != null;
+        List<PodRecord> result = new ArrayList<>(matches.cardinality());
+        for (int row = matches.nextSetBit(0); row >= 0; row = matches.nextSetBit(row + 1)) {
+            PodRecord pod = pods.get(row);
+            if (!exactFilters || podFilter.matchesExactFilters(pod)) {
+                result.add(pod);
+            }
+        }
+        return result;
+    }
+
+    private static List<PodRecord> smaller(List<PodRecord> current, Index index, String value) {
+        if (value == null) {
+            return current;
+        }
+        List<PodRecord> bucket = index.get(value);
+        return bucket.size() < current.size() ? bucket : current;
+    }
+
+    private static final class Index {
+        private final Map<String, List<PodRecord>> rowsByKey; // Lower-cased key -> rows in snapshot order
+        private final List<String> values; // Distinct values, naturally sorted
+        private final Map<String, Integer> counts; // Distinct value -> row count, naturally sorted
+
+        private Index(List<PodRecord> pods, Function<PodRecord, String> field) {
+            Map<String, List<PodRecord>> rows = new HashMap<>();
+            TreeMap<String, Integer> valueCounts = new TreeMap<>();
+            for (PodRecord pod : pods) {
+                String value = field.apply(pod);
+                if (value == null) {
+                    continue;
+                }
+                rows.computeIfAbsent(value.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(pod);
+                valueCounts.merge(value, 1, Integer::sum);
+            }
+            rows.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            this.rowsByKey = rows;
+            this.values = List.copyOf(valueCounts.keySet());
+            this.counts = Collections.unmodifiableMap(valueCounts);
+        }
+
+        private List<PodRecord> get(String value) {
+            return Objects.requireNonNullElse(rowsByKey.get(value.toLowerCase(Locale.ROOT)), Collections.emptyList());
+        }
+    }
+}
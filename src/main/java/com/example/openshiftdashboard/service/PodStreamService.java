@@ -0,0 +1,255 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.dto.PodDelta;
+import com.example.openshiftdashboard.dto.PodUIDetail;
+import com.example.openshiftdashboard.dto.PodUsagePatch;
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.model.ResourceQuantities;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes pod deltas (added, changed, removed) to browsers over Server-Sent Events whenever a new snapshot is
+ * published, filtered per subscriber with the same rules as the dashboard filters.
+ *
+ * <p>Nothing here can hold up publishing: the publish callback only records the latest snapshot, diffs run on
+ * one background thread (coalescing any snapshots published meanwhile), and every subscriber has a bounded queue
+ * drained by a sender task on a pool of {@code openshift.stream-send-threads}. A subscriber that falls
+ * {@code openshift.stream-queue-capacity} events behind, or whose delta would be larger than {@link #MAX_DELTA_ROWS}
+ * rows (or {@link #MAX_USAGE_PATCHES} usage patches), gets a single "resync" event instead and reloads its page
+ * from /api/pods. Rows whose only change is their usage (every metrics refresh) are sent as compact usage patches
+ * rather than whole rows, so a metrics refresh does not force every browser to reload.
+ */
+@Service
+public class PodStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PodStreamService.class);
+
+    static final int MAX_DELTA_ROWS = 1000;
+    static final int MAX_USAGE_PATCHES = 20_000; // About 1.5 MB of JSON; a metrics refresh of a large fleet fits
+    private static final long HEARTBEAT_SECONDS = 25; // Below common proxy idle timeouts; also detects closed browsers
+
+    private final int queueCapacity;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService diffExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("pod-stream-diff-"));
+    // Each subscriber has at most one drain task queued or running, so the queue is bounded by the subscriber count.
+    // A connection blocked on a write ties up one sender thread until the container's write timeout.
+    private final ExecutorService sendExecutor;
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("pod-stream-heartbeat-"));
+    private final AtomicReference<PodSnapshot> latestPublished;
+    private final AtomicBoolean diffScheduled = new AtomicBoolean();
+    private PodSnapshot lastDiffed; // Only used on diffExecutor
+
+    public PodStreamService(OpenShiftProperties openShiftProperties, DashboardDataService dashboardDataService) {
+        this.queueCapacity = Math.max(2, openShiftProperties.getStreamQueueCapacity());
+        this.sendExecutor = Executors.newFixedThreadPool(Math.max(1, openShiftProperties.getStreamSendThreads()),
+                new CustomizableThreadFactory("pod-stream-send-"));
+        this.lastDiffed = dashboardDataService.getSnapshot();
+        this.latestPublished = new AtomicReference<>(lastDiffed);
+        dashboardDataService.addPublishListener(this::onPublish);
+        heartbeatExecutor.scheduleWithFixedDelay(this::sendHeartbeats, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+        diffExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * Opens a stream for one browser. The first event is "sync" with the current snapshot version, so a client
+     * whose page was loaded from an older version knows to reload before applying deltas.
+     */
+    public SseEmitter subscribe(PodFilter podFilter) {
+        SseEmitter emitter = new SseEmitter(0L); // Never times out; closed connections are found by the heartbeat
+        Subscriber subscriber = new Subscriber(emitter, podFilter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.enqueue(versionEvent("sync", latestPublished.get().getVersion()));
+        logger.debug("Pod stream subscriber added. Active subscribers: {}", subscribers.size());
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void onPublish(PodSnapshot snapshot) {
+        latestPublished.set(snapshot);
+        if (diffScheduled.compareAndSet(false, true)) {
+            diffExecutor.execute(this::diffLatest);
+        }
+    }
+
+    private void diffLatest() {
+        diffScheduled.set(false);
+        PodSnapshot previous = lastDiffed;
+        PodSnapshot current = latestPublished.get();
+        if (current == previous) {
+            return;
+        }
+        lastDiffed = current;
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            PodChanges changes = PodChanges.between(previous, current);
+            if (changes.isEmpty()) {
+                return;
+            }
+            // Each row formatted once for all subscribers
+            Map<PodRecord, PodUIDetail> formatted = new IdentityHashMap<>();
+            Map<PodRecord, PodUsagePatch> formattedUsage = new IdentityHashMap<>();
+            for (Subscriber subscriber : subscribers) {
+                subscriber.enqueue(eventFor(changes, subscriber.podFilter, formatted, formattedUsage));
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to compute pod stream delta from version {} to {}: {}", previous.getVersion(), current.getVersion(), e.getMessage(), e);
+            subscribers.forEach(subscriber -> subscriber.enqueue(versionEvent("resync", current.getVersion())));
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueueIfIdle(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private static SseEventBuilder versionEvent(String name, long version) {
+        return SseEmitter.event().name(name).data(Map.of("version", version));
+    }
+
+    // Turns one diff into the event a subscriber sees; a changed row can enter or leave its filter, which it sees as an add or a remove
+    private static SseEventBuilder eventFor(PodChanges changes, PodFilter podFilter, Map<PodRecord, PodUIDetail> formatted,
+                                            Map<PodRecord, PodUsagePatch> formattedUsage) {
+        List<PodRecord> addedRows = new ArrayList<>();
+        List<PodRecord> changedRows = new ArrayList<>();
+        List<String> removedKeys = new ArrayList<>();
+        for (PodRecord pod : changes.getAdded()) {
+            if (podFilter.test(pod)) {
+                addedRows.add(pod);
+            }
+        }
+        for (PodRecord[] change : changes.getChanged()) {
+            boolean matchedBefore = podFilter.test(change[0]);
+            boolean matchesNow = podFilter.test(change[1]);
+            if (matchedBefore && matchesNow) {
+                changedRows.add(change[1]);
+            } else if (matchesNow) {
+                addedRows.add(change[1]);
+            } else if (matchedBefore) {
+                removedKeys.add(change[0].getKey());
+            }
+        }
+        for (PodRecord pod : changes.getRemoved()) {
+            if (podFilter.test(pod)) {
+                removedKeys.add(pod.getKey());
+            }
+        }
+        List<PodUsagePatch> usagePatches = new ArrayList<>();
+        for (PodRecord[] change : changes.getUsageChanged()) {
+            if (podFilter.test(change[1])) {
+                usagePatches.add(formattedUsage.computeIfAbsent(change[1], PodStreamService::usagePatch));
+            }
+        }
+        if (addedRows.size() + changedRows.size() + removedKeys.size() > MAX_DELTA_ROWS || usagePatches.size() > MAX_USAGE_PATCHES) {
+            return versionEvent("resync", changes.getVersion()); // Cheaper for the browser to reload its page than to apply this
+        }
+        return SseEmitter.event().name("delta").data(new PodDelta(changes.getFromVersion(), changes.getVersion(),
+                format(addedRows, formatted), format(changedRows, formatted), usagePatches, removedKeys));
+    }
+
+    private static PodUsagePatch usagePatch(PodRecord pod) {
+        return new PodUsagePatch(pod.getKey(), ResourceQuantities.formatCpu(pod.getCpuUsageMillis()),
+                ResourceQuantities.formatMemory(pod.getMemoryUsageBytes()));
+    }
+
+    private static List<PodUIDetail> format(List<PodRecord> rows, Map<PodRecord, PodUIDetail> formatted) {
+        List<PodUIDetail> details = new ArrayList<>(rows.size());
+        rows.forEach(row -> details.add(formatted.computeIfAbsent(row, PodRecord::toUIDetail)));
+        return details;
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final PodFilter podFilter;
+        private final Queue<SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, PodFilter podFilter) {
+            this.emitter = emitter;
+            this.podFilter = podFilter;
+        }
+
+        private synchronized void enqueue(SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                // Not keeping up: drop what it hasn't received yet and have it reload once it catches up
+                queue.clear();
+                queue.offer(versionEvent("resync", latestPublished.get().getVersion()));
+                logger.debug("Pod stream subscriber fell {} events behind; sending resync.", queueCapacity);
+            }
+            scheduleDrain();
+        }
+
+        private synchronized void enqueueIfIdle(SseEventBuilder event) {
+            if (queue.isEmpty() && !draining.get()) {
+                enqueue(event);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    draining.set(false); // Shutting down
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Browser went away; the emitter callbacks may not fire for a write failure, so drop it here too
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftInstanceProperties;
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.dto.InstanceRefreshResult;
+import com.example.openshiftdashboard.dto.InstanceRefreshStatus;
+import com.example.openshiftdashboard.dto.RefreshResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs refreshes in the background and coalesces them. At most one refresh runs per instance: a trigger that
+ * is already covered by the running one (same instance, or namespaces of an instance the running refresh already
+ * includes) joins it, anything else queues behind it. A request for the same scope as a job still running gets that job
+ * back instead of a new one, so the scheduler and any number of "refresh" clicks cost one scan.
+ */
+@Service
+public class RefreshCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshCoordinator.class);
+
+    private static final int RETAINED_JOBS = 50; // Finished jobs kept for /refresh-status
+
+    private final OpenShiftProperties openShiftProperties;
+    private final DashboardDataService dashboardDataService;
+    private final RefreshMetrics refreshMetrics;
+    private final SnapshotStore snapshotStore;
+    // One thread per instance being refreshed; each waits on its fetch for at most the instance's refreshTimeoutSeconds
+    private final ExecutorService refreshExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("refresh-job-"));
+    private final AtomicLong jobSequence = new AtomicLong();
+
+    private final Object lock = new Object();
+    private final Map<String, InstanceRefresh> inFlightByInstance = new HashMap<>(); // Guarded by lock
+    private final Map<String, RefreshJob> jobsById = new LinkedHashMap<>(); // Guarded by lock; oldest first
+    private RefreshJob latestJob; // Guarded by lock
+
+    public RefreshCoordinator(OpenShiftProperties openShiftProperties, DashboardDataService dashboardDataService,
+                              RefreshMetrics refreshMetrics, SnapshotStore snapshotStore) {
+        this.openShiftProperties = openShiftProperties;
+        this.dashboardDataService = dashboardDataService;
+        this.refreshMetrics = refreshMetrics;
+        this.snapshotStore = snapshotStore;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public RefreshJob refreshAll() {
+        return submit(null, (Collection<String>) null);
+    }
+
+    /**
+     * Starts (or joins) a refresh of every instance, one instance, or one namespace of an instance, and returns
+     * immediately. {@code namespace} requires {@code instanceName} and must be one of its configured namespaces.
+     *
+     * @throws IllegalArgumentException if the instance or namespace is not configured
+     */
+    public RefreshJob submit(String instanceName, String namespace) {
+        return submit(instanceName, namespace != null ? List.of(namespace) : null);
+    }
+
+    /**
+     * Like {@link #submit(String, String)} for several namespaces of one instance; {@code null} means all of them.
+     */
+    public RefreshJob submit(String instanceName, Collection<String> namespaces) {
+        List<String> requestedNamespaces = namespaces != null ? List.copyOf(new TreeSet<>(namespaces)) : null; // Same set, same job
+        List<OpenShiftInstanceProperties> targets = resolveTargets(instanceName, requestedNamespaces);
+        synchronized (lock) {
+            for (RefreshJob job : jobsById.values()) {
+                if (!job.isDone() && Objects.equals(job.getInstanceName(), instanceName) && Objects.equals(job.getNamespaces(), requestedNamespaces)) {
+                    logger.info("Refresh job {} already covers this request; joining it.", job.getId());
+                    return job;
+                }
+            }
+
+            RefreshJob job = new RefreshJob(Long.toString(jobSequence.incrementAndGet()), instanceName, requestedNamespaces, Instant.now(), targets.size());
+            List<CompletableFuture<InstanceRefreshResult>> instanceFutures = new ArrayList<>(targets.size());
+            for (OpenShiftInstanceProperties instanceConfig : targets) {
+                CompletableFuture<InstanceRefreshResult> instanceFuture = startInstanceRefresh(instanceConfig, requestedNamespaces);
+                instanceFuture.thenAccept(job::instanceCompleted);
+                instanceFutures.add(instanceFuture);
+            }
+            CompletableFuture.allOf(instanceFutures.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, error) -> finish(job, instanceFutures));
+
+            jobsById.put(job.getId(), job);
+            latestJob = job;
+            evictFinishedJobs();
+            logger.info("Started refresh job {} for {}.", job.getId(), describeScope(instanceName, requestedNamespaces));
+            return job;
+        }
+    }
+
+    public RefreshJob getJob(String jobId) {
+        synchronized (lock) {
+            return jobsById.get(jobId);
+        }
+    }
+
+    public RefreshJob getLatestJob() {
+        synchronized (lock) {
+            return latestJob;
+        }
+    }
+
+    private List<OpenShiftInstanceProperties> resolveTargets(String instanceName, List<String> namespaces) {
+        List<OpenShiftInstanceProperties> instances = openShiftProperties.getInstances() != null
+                ? openShiftProperties.getInstances() : Collections.emptyList();
+        if (instanceName == null) {
+            if (namespaces != null) {
+                throw new IllegalArgumentException("A namespace refresh needs the instance it belongs to");
+            }
+            if (instances.isEmpty()) {
+                logger.warn("No OpenShift instances configured. Refresh will only clear the cache.");
+            }
+            return instances;
+        }
+        OpenShiftInstanceProperties instanceConfig = instances.stream()
+                .filter(instance -> instanceName.equals(instance.getName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown instance: " + instanceName));
+        for (String namespace : namespaces != null ? namespaces : List.<String>of()) {
+            if (instanceConfig.getNamespaces() == null || !instanceConfig.getNamespaces().contains(namespace)) {
+                throw new IllegalArgumentException("Namespace " + namespace + " is not configured for instance " + instanceName);
+            }
+        }
+        return List.of(instanceConfig);
+    }
+
+    // Caller holds lock
+    private CompletableFuture<InstanceRefreshResult> startInstanceRefresh(OpenShiftInstanceProperties instanceConfig, List<String> namespaces) {
+        String instanceName = instanceConfig.getName();
+        InstanceRefresh current = inFlightByInstance.get(instanceName);
+        if (current != null && current.covers(namespaces)) {
+            return current.future;
+        }
+        // Never two refreshes against one cluster at once: anything the running one doesn't cover waits for it
+        CompletableFuture<?> previous = current != null ? current.future : CompletableFuture.completedFuture(null);
+        CompletableFuture<InstanceRefreshResult> future = previous
+                .handle((result, error) -> null)
+                .thenApplyAsync(ignored -> runInstanceRefresh(instanceConfig, namespaces), refreshExecutor);
+        InstanceRefresh refresh = new InstanceRefresh(namespaces, future);
+        inFlightByInstance.put(instanceName, refresh);
+        future.whenComplete((result, error) -> {
+            synchronized (lock) {
+                inFlightByInstance.remove(instanceName, refresh);
+            }
+        });
+        return future;
+    }
+
+    private InstanceRefreshResult runInstanceRefresh(OpenShiftInstanceProperties instanceConfig, List<String> namespaces) {
+        try {
+            return dashboardDataService.refreshInstance(instanceConfig, namespaces);
+        } catch (RuntimeException e) {
+            // refreshInstance handles fetch errors itself; keep a bug here from leaving the job running forever
+            logger.error("Unexpected error refreshing instance {}: {}", instanceConfig.getName(), e.getMessage(), e);
+            return new InstanceRefreshResult(instanceConfig.getName(), InstanceRefreshStatus.STALE, 0,
+                    Collections.emptyList(), 0, e.getMessage());
+        }
+    }
+
+    private void finish(RefreshJob job, List<CompletableFuture<InstanceRefreshResult>> instanceFutures) {
+        try {
+            List<InstanceRefreshResult> instanceResults = new ArrayList<>(instanceFutures.size());
+            for (CompletableFuture<InstanceRefreshResult> instanceFuture : instanceFutures) {
+                // Only fails if the executor rejected the task during shutdown
+                InstanceRefreshResult instanceResult = instanceFuture.isCompletedExceptionally() ? null : instanceFuture.join();
+                if (instanceResult != null) {
+                    instanceResults.add(instanceResult);
+                }
+            }
+            if (job.getInstanceName() == null) {
+                dashboardDataService.retainInstances(resolveTargets(null, null).stream().map(OpenShiftInstanceProperties::getName).toList());
+            }
+            PodSnapshot published = dashboardDataService.publishCache();
+            RefreshResult result = new RefreshResult(job.getStartedAt(), Instant.now(), published.size(), instanceResults);
+            if (job.getInstanceName() == null) {
+                refreshMetrics.recordRefresh(result.getCompletedAt().toEpochMilli() - result.getStartedAt().toEpochMilli());
+            }
+            logger.info("Refresh job {} completed. Total pod details cached: {}", job.getId(), published.size());
+            job.complete(result);
+            // Persist only when something new was fetched; an all-STALE job would rewrite the same rows
+            if (instanceResults.stream().anyMatch(instanceResult -> instanceResult.getStatus() != InstanceRefreshStatus.STALE)) {
+                snapshotStore.save(dashboardDataService.exportCache());
+            }
+        } catch (RuntimeException e) {
+            logger.error("Refresh job {} failed while publishing: {}", job.getId(), e.getMessage(), e);
+            job.fail(e);
+        }
+    }
+
+    // Caller holds lock
+    private void evictFinishedJobs() {
+        Iterator<RefreshJob> oldestFirst = jobsById.values().iterator();
+        while (jobsById.size() > RETAINED_JOBS && oldestFirst.hasNext()) {
+            if (oldestFirst.next().isDone()) {
+                oldestFirst.remove();
+            }
+        }
+    }
+
+    private static String describeScope(String instanceName, List<String> namespaces) {
+        if (instanceName == null) {
+            return "all instances";
+        }
+        return namespaces == null ? "instance " + instanceName : "namespaces " + namespaces + " of instance " + instanceName;
+    }
+
+    private static final class InstanceRefresh {
+        private final List<String> namespaces; // Null for the whole instance
+        private final CompletableFuture<InstanceRefreshResult> future;
+
+        private InstanceRefresh(List<String> namespaces, CompletableFuture<InstanceRefreshResult> future) {
+            this.namespaces = namespaces;
+            this.future = future;
+        }
+
+        private boolean covers(List<String> requestedNamespaces) {
+            return namespaces == null || (requestedNamespaces != null && namespaces.containsAll(requestedNamespaces));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.dto.InstanceRefreshResult;
+import com.example.openshiftdashboard.dto.RefreshJobState;
+import com.example.openshiftdashboard.dto.RefreshJobStatus;
+import com.example.openshiftdashboard.dto.RefreshResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * One refresh request as tracked by {@link RefreshCoordinator}: its scope, the instances finished so far,
+ * and a future completed with the overall result once the cache has been republished.
+ */
+public final class RefreshJob {
+
+    private final String id;
+    private final String instanceName;
+    private final List<String> namespaces; // Null for every namespace
+    private final Instant startedAt;
+    private final int instancesTotal;
+    private final List<InstanceRefreshResult> completedInstances = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<RefreshResult> completion = new CompletableFuture<>();
+
+    RefreshJob(String id, String instanceName, List<String> namespaces, Instant startedAt, int instancesTotal) {
+        this.id = id;
+        this.instanceName = instanceName;
+        this.namespaces = namespaces;
+        this.startedAt = startedAt;
+        this.instancesTotal = instancesTotal;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getInstanceName() {
+        return instanceName;
+    }
+
+    public List<String> getNamespaces() {
+        return namespaces;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public CompletableFuture<RefreshResult> getCompletion() {
+        return completion;
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    void instanceCompleted(InstanceRefreshResult instanceResult) {
+        completedInstances.add(instanceResult);
+    }
+
+    void complete(RefreshResult result) {
+        completion.complete(result);
+    }
+
+    void fail(Throwable error) {
+        completion.completeExceptionally(error);
+    }
+
+    public RefreshJobStatus toStatus() {
+        if (completion.isCompletedExceptionally()) {
+            return new RefreshJobStatus(id, RefreshJobState.FAILED, instanceName, namespaces, startedAt, null,
+                    instancesTotal, completedInstances.size(), new ArrayList<>(completedInstances), null);
+        }
+        RefreshResult result = completion.getNow(null);
+        if (result != null) {
+            return new RefreshJobStatus(id, RefreshJobState.COMPLETED, instanceName, namespaces, startedAt, result.getCompletedAt(),
+                    instancesTotal, result.getInstances().size(), result.getInstances(), result.getTotalPods());
+        }
+        return new RefreshJobStatus(id, RefreshJobState.RUNNING, instanceName, namespaces, startedAt, null,
+                instancesTotal, completedInstances.size(), new ArrayList<>(completedInstances), null);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.openshiftdashboard.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters for the refresh pipeline, exposed on /actuator/metrics and /actuator/prometheus. Tagged by instance
+ * (and namespace where it applies) so a slow or failing cluster stands out; namespace cardinality is bounded
+ * by the configured namespace lists.
+ */
+@Component
+public class RefreshMetrics {
+
+    static final String OUTCOME_SUCCESS = "success";
+    static final String OUTCOME_PARTIAL = "partial";
+    static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+
+    public RefreshMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // A full refresh job, all instances included
+    public void recordRefresh(long durationMillis) {
+        Timer.builder("dashboard.refresh.duration")
+                .description("Duration of a full refresh of all instances")
+                .register(meterRegistry)
+                .record(durationMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // outcome is success, partial (some namespaces failed) or failure (nothing fetched, including timeouts)
+    public void recordInstanceRefresh(String instance, String outcome, long durationNanos) {
+        Timer.builder("dashboard.refresh.instance.duration")
+                .description("Duration of fetching one instance")
+                .tag("instance", instance)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordNamespaceRefresh(String instance, String namespace, boolean success, long durationNanos) {
+        Timer.builder("dashboard.refresh.namespace.duration")
+                .description("Duration of fetching metrics and listing pods for one namespace")
+                .tag("instance", instance)
+                .tag("namespace", namespace)
+                .tag("outcome", success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPodsListed(String instance, String namespace, int count) {
+        Counter.builder("dashboard.pods.listed")
+                .description("Pods returned by list calls")
+                .tag("instance", instance)
+                .tag("namespace", namespace)
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public void recordMetricsCall(String instance, boolean success) {
+        Counter.builder("dashboard.metrics.calls")
+                .description("Namespace-wide metrics-server calls")
+                .tag("instance", instance)
+                .tag("outcome", success ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Counts a failed Kubernetes API call. {@code operation} is what was being called (list-pods, metrics, connect);
+     * a status of 0 (no HTTP response, e.g. connect timeout) is reported as "none".
+     */
+    public void recordApiError(String instance, String operation, int statusCode) {
+        Counter.builder("dashboard.api.errors")
+                .description("Failed Kubernetes API calls by HTTP status")
+                .tag("instance", instance)
+                .tag("operation", operation)
+                .tag("status", statusCode > 0 ? Integer.toString(statusCode) : "none")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // Time spent building a dashboard page or API response, view rendering included
+    public void recordRender(String handler, int status, long durationNanos) {
+        Timer.builder("dashboard.render.duration")
+                .description("Controller handling and view rendering time")
+                .tag("handler", handler)
+                .tag("status", Integer.toString(status))
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void registerSnapshotGauges(Supplier<PodSnapshot> snapshotSupplier) {
+        Gauge.builder("dashboard.snapshot.pods", () -> snapshotSupplier.get().size())
+                .description("Rows in the published pod snapshot")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.snapshot.age", () -> secondsSince(snapshotSupplier.get().getCreatedAt()))
+                .description("Seconds since the pod snapshot was last published")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // NaN until the instance has been fetched successfully once
+    public void registerInstanceDataAgeGauge(String instance, Supplier<Instant> lastFreshSupplier) {
+        Gauge.builder("dashboard.instance.data.age", () -> secondsSince(lastFreshSupplier.get()))
+                .description("Seconds since the instance's data was last fetched successfully")
+                .tag("instance", instance)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static double secondsSince(Instant instant) {
+        if (instant == null || Instant.EPOCH.equals(instant)) {
+            return Double.NaN;
+        }
+        return (System.currentTimeMillis() - instant.toEpochMilli()) / 1000.0;
+    }
+}
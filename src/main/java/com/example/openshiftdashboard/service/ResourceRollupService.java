@@ -0,0 +1,268 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.dto.ResourceRollup;
+import com.example.openshiftdashboard.dto.ResourceRollupReport;
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.model.ResourceQuantities;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+
+import static java.util.Map.entry;
+
+/**
+ * Keeps CPU and memory requests, limits and usage summed per application, namespace, node and data center, so
+ * capacity questions ("requested vs used CPU of app X in DC-West") are answered without scanning the table.
+ *
+ * <p>Totals are maintained incrementally: on every publish only the rows that were added, changed or removed since
+ * the last applied snapshot are subtracted from and added to their groups. Like {@link PodStreamService}, the work
+ * runs on one background thread that coalesces publishes, and readers get an immutable view swapped in after each
+ * update. Application, namespace and node groups are kept per data center, so restricting them to one data center
+ * needs no pod scan either.
+ */
+@Service
+public class ResourceRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceRollupService.class);
+
+    // Sort keys accepted by getRollups; numbers sort largest first
+    private static final Map<String, ToLongFunction<ResourceRollup>> SORTABLE_FIELDS = Map.ofEntries(
+            entry("podCount", ResourceRollup::getPodCount),
+            entry("cpuRequest", ResourceRollup::getCpuRequestMillis),
+            entry("cpuLimit", ResourceRollup::getCpuLimitMillis),
+            entry("cpuUsage", ResourceRollup::getCpuUsageMillis),
+            entry("memoryRequest", ResourceRollup::getMemoryRequestBytes),
+            entry("memoryLimit", ResourceRollup::getMemoryLimitBytes),
+            entry("memoryUsage", ResourceRollup::getMemoryUsageBytes));
+
+    private final ExecutorService rollupExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("resource-rollup-"));
+    private final AtomicReference<PodSnapshot> latestPublished = new AtomicReference<>(PodSnapshot.EMPTY);
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+    // Only used on rollupExecutor
+    private final Map<RollupDimension, Map<GroupKey, Totals>> totalsByDimension = new EnumMap<>(RollupDimension.class);
+    private PodSnapshot lastApplied = PodSnapshot.EMPTY;
+    private volatile View view = new View(0, new EnumMap<>(RollupDimension.class));
+
+    public ResourceRollupService(DashboardDataService dashboardDataService) {
+        for (RollupDimension dimension : RollupDimension.values()) {
+            totalsByDimension.put(dimension, new HashMap<>());
+        }
+        dashboardDataService.addPublishListener(this::onPublish);
+        onPublish(dashboardDataService.getSnapshot()); // Whatever was published before this bean existed
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rollupExecutor.shutdownNow();
+    }
+
+    /**
+     * Rollups for one dimension, optionally restricted to one data center (case-insensitive), sorted by group name
+     * or by one of the numeric fields ({@code podCount}, {@code cpuRequest}, {@code cpuLimit}, {@code cpuUsage},
+     * {@code memoryRequest}, {@code memoryLimit}, {@code memoryUsage}), largest first. May trail the latest
+     * snapshot by one update; the report says which snapshot it reflects.
+     *
+     * @throws IllegalArgumentException for an unknown sort field
+     */
+    public ResourceRollupReport getRollups(RollupDimension dimension, String dataCenter, String sort) {
+        Comparator<ResourceRollup> comparator = parseSort(sort);
+        View current = view;
+        boolean acrossDataCenters = dataCenter == null || dataCenter.isEmpty();
+        // Merge the per-data-center groups; there are far fewer groups than pods
+        Map<String, Totals> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder()));
+        Map<String, String> dataCenterByName = new HashMap<>();
+        current.totalsByDimension.getOrDefault(dimension, Map.of()).forEach((key, totals) -> {
+            if (acrossDataCenters || dataCenter.equalsIgnoreCase(key.dataCenter())) {
+                merged.merge(key.name(), totals, Totals::plus);
+                dataCenterByName.put(key.name(), key.dataCenter());
+            }
+        });
+        List<ResourceRollup> rows = new ArrayList<>(merged.size());
+        Totals overall = Totals.ZERO;
+        for (Map.Entry<String, Totals> group : merged.entrySet()) {
+            String rowDataCenter = dimension == RollupDimension.DATA_CENTER || !acrossDataCenters ? dataCenterByName.get(group.getKey()) : null;
+            rows.add(group.getValue().toRollup(group.getKey(), rowDataCenter));
+            overall = overall.plus(group.getValue());
+        }
+        if (comparator != null) {
+            rows.sort(comparator);
+        }
+        String totalDataCenter = acrossDataCenters ? null : dataCenter;
+        return new ResourceRollupReport(dimension.getParameterName(), totalDataCenter, current.snapshotVersion,
+                overall.toRollup("Total", totalDataCenter), rows);
+    }
+
+    // Version of the snapshot the current rollups reflect, as reported by getRollups
+    public long getSnapshotVersion() {
+        return view.snapshotVersion;
+    }
+
+    /**
+     * Checks a sort field as {@link #getRollups} would, without building a report.
+     *
+     * @throws IllegalArgumentException for an unknown sort field
+     */
+    public static void validateSort(String sort) {
+        parseSort(sort);
+    }
+
+    private static Comparator<ResourceRollup> parseSort(String sort) {
+        if (sort == null || sort.isBlank() || "name".equals(sort)) {
+            return null; // Already in name order
+        }
+        ToLongFunction<ResourceRollup> field = SORTABLE_FIELDS.get(sort);
+        if (field == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sort);
+        }
+        return Comparator.comparingLong(field).reversed();
+    }
+
+    private void onPublish(PodSnapshot snapshot) {
+        latestPublished.accumulateAndGet(snapshot, (current, candidate) -> candidate.getVersion() >= current.getVersion() ? candidate : current);
+        if (updateScheduled.compareAndSet(false, true)) {
+            try {
+                rollupExecutor.execute(this::applyLatest);
+            } catch (RuntimeException e) {
+                updateScheduled.set(false); // Shutting down
+            }
+        }
+    }
+
+    private void applyLatest() {
+        updateScheduled.set(false);
+        PodSnapshot previous = lastApplied;
+        PodSnapshot current = latestPublished.get();
+        if (current == previous) {
+            return;
+        }
+        try {
+            PodChanges changes = PodChanges.between(previous, current);
+            changes.getRemoved().forEach(pod -> apply(pod, -1));
+            for (List<PodRecord[]> changed : List.of(changes.getChanged(), changes.getUsageChanged())) {
+                for (PodRecord[] change : changed) {
+                    apply(change[0], -1);
+                    apply(change[1], 1);
+                }
+            }
+            changes.getAdded().forEach(pod -> apply(pod, 1));
+            lastApplied = current;
+            publishView(current.getVersion());
+            logger.debug("Applied {} added, {} changed, {} removed pods to resource rollups (snapshot version {})",
+                    changes.getAdded().size(), changes.getChanged().size() + changes.getUsageChanged().size(),
+                    changes.getRemoved().size(), current.getVersion());
+        } catch (RuntimeException e) {
+            // A half-applied diff would leave the totals wrong for good; start over from the snapshot itself
+            logger.error("Failed to update resource rollups to version {}; rebuilding them: {}", current.getVersion(), e.getMessage(), e);
+            totalsByDimension.values().forEach(Map::clear);
+            current.getPods().forEach(pod -> apply(pod, 1));
+            lastApplied = current;
+            publishView(current.getVersion());
+        }
+    }
+
+    private void apply(PodRecord pod, int sign) {
+        String dataCenter = RollupDimension.DATA_CENTER.groupOf(pod);
+        totalsByDimension.forEach((dimension, groups) -> {
+            GroupKey key = new GroupKey(dimension.groupOf(pod), dataCenter);
+            Totals updated = groups.getOrDefault(key, Totals.ZERO).plus(pod, sign);
+            if (updated.podCount == 0) {
+                groups.remove(key); // Last pod of the group is gone
+            } else {
+                groups.put(key, updated);
+            }
+        });
+    }
+
+    private void publishView(long snapshotVersion) {
+        Map<RollupDimension, Map<GroupKey, Totals>> copies = new EnumMap<>(RollupDimension.class);
+        totalsByDimension.forEach((dimension, groups) -> copies.put(dimension, Map.copyOf(groups)));
+        view = new View(snapshotVersion, copies);
+    }
+
+    private record GroupKey(String name, String dataCenter) {
+    }
+
+    private record View(long snapshotVersion, Map<RollupDimension, Map<GroupKey, Totals>> totalsByDimension) {
+    }
+
+    /**
+     * Immutable sums for one group. Only real values are added (see {@link ResourceQuantities} for the sentinels),
+     * so a pod without a CPU limit contributes nothing to cpuLimitMillis; it is counted in podsWithoutCpuLimit instead.
+     */
+    private static final class Totals {
+        private static final Totals ZERO = new Totals(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        private final int podCount;
+        private final int podsWithUsage;
+        private final int podsWithoutCpuLimit;
+        private final int podsWithoutMemoryLimit;
+        private final long cpuRequestMillis;
+        private final long cpuLimitMillis;
+        private final long cpuUsageMillis;
+        private final long memoryRequestBytes;
+        private final long memoryLimitBytes;
+        private final long memoryUsageBytes;
+
+        private Totals(int podCount, int podsWithUsage, int podsWithoutCpuLimit, int podsWithoutMemoryLimit,
+                       long cpuRequestMillis, long cpuLimitMillis, long cpuUsageMillis,
+                       long memoryRequestBytes, long memoryLimitBytes, long memoryUsageBytes) {
+            this.podCount = podCount;
+            this.podsWithUsage = podsWithUsage;
+            this.podsWithoutCpuLimit = podsWithoutCpuLimit;
+            this.podsWithoutMemoryLimit = podsWithoutMemoryLimit;
+            this.cpuRequestMillis = cpuRequestMillis;
+            this.cpuLimitMillis = cpuLimitMillis;
+            this.cpuUsageMillis = cpuUsageMillis;
+            this.memoryRequestBytes = memoryRequestBytes;
+            this.memoryLimitBytes = memoryLimitBytes;
+            this.memoryUsageBytes = memoryUsageBytes;
+        }
+
+        private Totals plus(PodRecord pod, int sign) {
+            boolean hasUsage = ResourceQuantities.isValue(pod.getCpuUsageMillis()) || ResourceQuantities.isValue(pod.getMemoryUsageBytes());
+            return new Totals(podCount + sign, podsWithUsage + (hasUsage ? sign : 0),
+                    podsWithoutCpuLimit + (ResourceQuantities.isValue(pod.getCpuLimitMillis()) ? 0 : sign),
+                    podsWithoutMemoryLimit + (ResourceQuantities.isValue(pod.getMemoryLimitBytes()) ? 0 : sign),
+                    cpuRequestMillis + sign * valueOf(pod.getCpuRequestMillis()),
+                    cpuLimitMillis + sign * valueOf(pod.getCpuLimitMillis()),
+                    cpuUsageMillis + sign * valueOf(pod.getCpuUsageMillis()),
+                    memoryRequestBytes + sign * valueOf(pod.getMemoryRequestBytes()),
+                    memoryLimitBytes + sign * valueOf(pod.getMemoryLimitBytes()),
+                    memoryUsageBytes + sign * valueOf(pod.getMemoryUsageBytes()));
+        }
+
+        private Totals plus(Totals other) {
+            return new Totals(podCount + other.podCount, podsWithUsage + other.podsWithUsage,
+                    podsWithoutCpuLimit + other.podsWithoutCpuLimit, podsWithoutMemoryLimit + other.podsWithoutMemoryLimit,
+                    cpuRequestMillis + other.cpuRequestMillis, cpuLimitMillis + other.cpuLimitMillis, cpuUsageMillis + other.cpuUsageMillis,
+                    memoryRequestBytes + other.memoryRequestBytes, memoryLimitBytes + other.memoryLimitBytes, memoryUsageBytes + other.memoryUsageBytes);
+        }
+
+        private ResourceRollup toRollup(String name, String dataCenter) {
+            return new ResourceRollup(name, dataCenter, podCount, podsWithUsage, podsWithoutCpuLimit, podsWithoutMemoryLimit,
+                    cpuRequestMillis, cpuLimitMillis, cpuUsageMillis, memoryRequestBytes, memoryLimitBytes, memoryUsageBytes,
+                    ResourceQuantities.formatCpu(cpuRequestMillis), ResourceQuantities.formatCpu(cpuLimitMillis),
+                    ResourceQuantities.formatCpu(cpuUsageMillis), ResourceQuantities.formatMemory(memoryRequestBytes),
+                    ResourceQuantities.formatMemory(memoryLimitBytes), ResourceQuantities.formatMemory(memoryUsageBytes));
+        }
+
+        private static long valueOf(long encoded) {
+            return ResourceQuantities.isValue(encoded) ? encoded : 0;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.model.PodRecord;
+
+import java.util.function.Function;
+
+/**
+ * What {@link ResourceRollupService} groups pods by. The parameter name is what the rollup endpoint and view accept.
+ */
+public enum RollupDimension {
+    APPLICATION("application", PodRecord::getApplicationName),
+    NAMESPACE("namespace", PodRecord::getNamespace),
+    NODE("node", PodRecord::getNodeName),
+    DATA_CENTER("dataCenter", PodRecord::getDataCenter);
+
+    private final String parameterName;
+    private final Function<PodRecord, String> field;
+
+    RollupDimension(String parameterName, Function<PodRecord, String> field) {
+        this.parameterName = parameterName;
+        this.field = field;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    // Pods without a value (e.g. not yet scheduled to a node) are grouped under "N/A"
+    String groupOf(PodRecord pod) {
+        String value = field.apply(pod);
+        return value != null ? value : "N/A";
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code parameterName} names no dimension
+     */
+    public static RollupDimension fromParameter(String parameterName) {
+        for (RollupDimension dimension : values()) {
+            if (dimension.parameterName.equalsIgnoreCase(parameterName)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported groupBy: " + parameterName);
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.model.PodRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the last good pod cache on local disk so a restart can serve data within seconds instead of waiting for
+ * the first refresh. The file ({@code openshift.snapshot-file}; blank disables persistence) is a flat,
+ * length-prefixed binary dump grouped by instance:
+ *
+ * <pre>
+ * int magic, int formatVersion, long savedAtMillis, int instanceCount
+ *   per instance: string name, long lastFetchedAtMillis (-1 if never), int podCount, pods...
+ * </pre>
+ *
+ * Strings are an int byte length (-1 for null) followed by UTF-8 bytes; numbers are written as PodRecord holds them.
+ * A save writes a temp file in the same directory and atomically renames it over the old one, so a crash
+ * mid-write leaves the previous snapshot intact. Exports are versioned, and a save is skipped if a later export
+ * has already been written, so a slow save finishing last can't put older rows on disk. Loading reads the file into
+ * a heap buffer rather than memory-mapping it: a mapping stays open until it is garbage-collected, and on Windows the
+ * next save could not replace the file while it is.
+ */
+@Component
+public class SnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotStore.class);
+
+    private static final int MAGIC = 0x504F4453; // "PODS"
+    private static final int FORMAT_VERSION = 1;
+    private static final long NO_TIMESTAMP = -1;
+
+    private final Path snapshotFile;
+    private long savedVersion; // Export version of the file on disk; guarded by this
+
+    public SnapshotStore(OpenShiftProperties openShiftProperties) {
+        this.snapshotFile = StringUtils.hasText(openShiftProperties.getSnapshotFile()) ? Paths.get(openShiftProperties.getSnapshotFile()) : null;
+    }
+
+    // Refresh jobs finishing together save one at a time; synchronized so the version check and the write can't interleave
+    public synchronized void save(CacheExport export) {
+        if (snapshotFile == null) {
+            return;
+        }
+        if (export.version() <= savedVersion) {
+            logger.debug("Skipping cache snapshot export {}: export {} is already on disk", export.version(), savedVersion);
+            return;
+        }
+        Collection<PersistedInstance> instances = export.instances();
+        long startedAt = System.currentTimeMillis();
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+            int podCount = 0;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(startedAt);
+                out.writeInt(instances.size());
+                for (PersistedInstance instance : instances) {
+                    writeString(out, instance.name());
+                    out.writeLong(instance.lastFetchedAt() != null ? instance.lastFetchedAt().toEpochMilli() : NO_TIMESTAMP);
+                    out.writeInt(instance.pods().size());
+                    for (PodRecord pod : instance.pods()) {
+                        writePod(out, pod);
+                    }
+                    podCount += instance.pods().size();
+                }
+                out.flush();
+                channel.force(true); // On disk before the rename makes it visible
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            savedVersion = export.version();
+            logger.info("Saved cache snapshot of {} pods to {} in {} ms", podCount, snapshotFile, System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not save cache snapshot to {}: {}", snapshotFile, e.getMessage());
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // Best effort; the next save uses a new temp file anyway
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the snapshot written by the last {@link #save}. Returns an empty list if persistence is disabled,
+     * there is no file yet, or it can't be read (wrong format version, truncated); the first refresh fills the cache then.
+     */
+    public List<PersistedInstance> load() {
+        if (snapshotFile == null || !Files.isRegularFile(snapshotFile)) {
+            return Collections.emptyList();
+        }
+        long startedAt = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = readFully(channel);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                logger.warn("Ignoring cache snapshot {}: unknown format", snapshotFile);
+                return Collections.emptyList();
+            }
+            Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+            int instanceCount = readCount(buffer);
+            List<PersistedInstance> instances = new ArrayList<>();
+            int podCount = 0;
+            for (int i = 0; i < instanceCount; i++) {
+                String name = readString(buffer);
+                long lastFetchedAtMillis = buffer.getLong();
+                int instancePodCount = readCount(buffer);
+                List<PodRecord> pods = new ArrayList<>(Math.min(instancePodCount, buffer.remaining() / Long.BYTES));
+                for (int p = 0; p < instancePodCount; p++) {
+                    pods.add(readPod(buffer));
+                }
+                instances.add(new PersistedInstance(name, lastFetchedAtMillis != NO_TIMESTAMP ? Instant.ofEpochMilli(lastFetchedAtMillis) : null, pods));
+                podCount += instancePodCount;
+            }
+            logger.info("Loaded cache snapshot of {} pods saved at {} from {} in {} ms", podCount, savedAt, snapshotFile,
+                    System.currentTimeMillis() - startedAt);
+            return instances;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            logger.warn("Ignoring unreadable cache snapshot {}: {}", snapshotFile, e.toString());
+            return Collections.emptyList();
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot file too large: " + size + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Keep reading; a single read may return fewer bytes
+        }
+        return buffer.flip();
+    }
+
+    private static void writePod(DataOutputStream out, PodRecord pod) throws IOException {
+        writeString(out, pod.getDataCenter());
+        writeString(out, pod.getNamespace());
+        writeString(out, pod.getPodName());
+        writeString(out, pod.getApplicationName());
+        writeString(out, pod.getApplicationVersion());
+        writeString(out, pod.getDeploymentType());
+        writeString(out, pod.getHelmChartInfo());
+        writeString(out, pod.getDockerImage());
+        out.writeLong(pod.getCpuRequestMillis());
+        out.writeLong(pod.getMemoryRequestBytes());
+        out.writeLong(pod.getCpuLimitMillis());
+        out.writeLong(pod.getMemoryLimitBytes());
+        out.writeLong(pod.getCpuUsageMillis());
+        out.writeLong(pod.getMemoryUsageBytes());
+        writeString(out, pod.getPodStatus());
+        writeString(out, pod.getPodIP());
+        writeString(out, pod.getNodeName());
+        out.writeLong(pod.getCreationEpochMillis());
+        writeString(out, pod.getUid());
+    }
+
+    // Everything read back is marked stale until a live refresh of its instance replaces it
+    private static PodRecord readPod(ByteBuffer in) {
+        return PodRecord.builder()
+                .dataCenter(readString(in))
+                .namespace(readString(in))
+                .podName(readString(in))
+                .applicationName(readString(in))
+                .applicationVersion(readString(in))
+                .deploymentType(readString(in))
+                .helmChartInfo(readString(in))
+                .dockerImage(readString(in))
+                .cpuRequestMillis(in.getLong())
+                .memoryRequestBytes(in.getLong())
+                .cpuLimitMillis(in.getLong())
+                .memoryLimitBytes(in.getLong())
+                .cpuUsageMillis(in.getLong())
+                .memoryUsageBytes(in.getLong())
+                .podStatus(readString(in))
+                .podIP(readString(in))
+                .nodeName(readString(in))
+                .creationEpochMillis(in.getLong())
+                .uid(readString(in))
+                .stale(true)
+                .build();
+    }
+
+    private static int readCount(ByteBuffer in) {
+        int count = in.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count " + count);
+        }
+        return count;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException("String length " + length + " past end of file");
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * One instance's rows as saved, with when they were last fetched live (null if never).
+     */
+    public record PersistedInstance(String name, Instant lastFetchedAt, List<PodRecord> pods) {
+    }
+
+    /**
+     * The whole cache as exported for one save. Versions increase with every export in the order the rows were taken.
+     */
+    public record CacheExport(long version, List<PersistedInstance> instances) {
+    }
+}
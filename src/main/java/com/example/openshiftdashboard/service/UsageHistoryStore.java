@@ -0,0 +1,120 @@
+package com.example.openshiftdashboard.service;
+
+import com.example.openshiftdashboard.config.OpenShiftProperties;
+import com.example.openshiftdashboard.dto.UsageHistory;
+import com.example.openshiftdashboard.dto.UsageStats;
+import com.example.openshiftdashboard.model.PodRecord;
+import com.example.openshiftdashboard.model.ResourceQuantities;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process CPU/memory history per pod UID. Each pod gets fixed-size primitive ring buffers of
+ * {@code openshift.usage-history-samples} entries, allocated once, so memory per pod is constant however long
+ * it runs. Buffers are dropped when their pod leaves the cache.
+ */
+@Service
+public class UsageHistoryStore {
+
+    private final int capacity;
+    private final Map<String, RingBuffer> historyByUid = new ConcurrentHashMap<>();
+
+    public UsageHistoryStore(OpenShiftProperties openShiftProperties) {
+        this.capacity = Math.max(2, openShiftProperties.getUsageHistorySamples());
+    }
+
+    /**
+     * Records one metrics sample for every pod that has a usage value (placeholders are skipped). A pod with only
+     * one of CPU and memory gets a sample with a gap in the other series.
+     */
+    public void record(Collection<PodRecord> pods, long sampleTimeMillis) {
+        for (PodRecord pod : pods) {
+            if (pod.getUid() == null
+                    || (!ResourceQuantities.isValue(pod.getCpuUsageMillis()) && !ResourceQuantities.isValue(pod.getMemoryUsageBytes()))) {
+                continue;
+            }
+            historyByUid.computeIfAbsent(pod.getUid(), uid -> new RingBuffer(capacity))
+                    .add(sampleTimeMillis, pod.getCpuUsageMillis(), pod.getMemoryUsageBytes());
+        }
+    }
+
+    // Evicts history for pods that are no longer in the cache
+    public void retainOnly(Set<String> liveUids) {
+        historyByUid.keySet().retainAll(liveUids);
+    }
+
+    public UsageHistory getHistory(String uid) {
+        RingBuffer buffer = historyByUid.get(uid);
+        return buffer != null ? buffer.snapshot(uid) : null;
+    }
+
+    public int trackedPods() {
+        return historyByUid.size();
+    }
+
+    private static final class RingBuffer {
+        private final long[] times;
+        private final long[] cpu;
+        private final long[] memory;
+        private int next; // Slot the next sample goes into
+        private int count;
+
+        private RingBuffer(int capacity) {
+            this.times = new long[capacity];
+            this.cpu = new long[capacity];
+            this.memory = new long[capacity];
+        }
+
+        private synchronized void add(long time, long cpuMillicores, long memoryBytes) {
+            times[next] = time;
+            cpu[next] = cpuMillicores;
+            memory[next] = memoryBytes;
+            next = (next + 1) % times.length;
+            count = Math.min(count + 1, times.length);
+        }
+
+        private synchronized UsageHistory snapshot(String uid) {
+            long[] orderedTimes = ordered(times);
+            long[] orderedCpu = ordered(cpu);
+            long[] orderedMemory = ordered(memory);
+            return new UsageHistory(uid, count, orderedTimes, withGaps(orderedCpu), withGaps(orderedMemory), stats(orderedCpu), stats(orderedMemory));
+        }
+
+        // Placeholders (not reported, metrics unavailable, invalid) become null, so a series never shows negative usage
+        private static Long[] withGaps(long[] series) {
+            Long[] result = new Long[series.length];
+            for (int i = 0; i < series.length; i++) {
+                result[i] = ResourceQuantities.isValue(series[i]) ? series[i] : null;
+            }
+            return result;
+        }
+
+        // Oldest first
+        private long[] ordered(long[] values) {
+            long[] result = new long[count];
+            int start = count < values.length ? 0 : next;
+            for (int i = 0; i < count; i++) {
+                result[i] = values[(start + i) % values.length];
+            }
+            return result;
+        }
+
+        private static UsageStats stats(long[] series) {
+            long[] valid = Arrays.stream(series).filter(ResourceQuantities::isValue).sorted().toArray();
+            if (valid.length == 0) {
+                return null;
+            }
+            long sum = 0;
+            for (long value : valid) {
+                sum += value;
+            }
+            int p95Index = (int) Math.ceil(0.95 * valid.length) - 1; // Nearest-rank
+            return new UsageStats(valid[0], (double) sum / valid.length, valid[Math.max(0, p95Index)], valid[valid.length - 1]);
+        }
+    }
+}